@@ -10,6 +10,7 @@ import org.example.shallweeatbackend.entity.RefreshToken;
 import org.example.shallweeatbackend.entity.User;
 import org.example.shallweeatbackend.repository.UserRepository;
 import org.example.shallweeatbackend.util.JWTUtil;
+import org.example.shallweeatbackend.util.TokenDigest;
 import org.example.shallweeatbackend.repository.RefreshTokenRepository;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.core.Authentication;
@@ -41,6 +42,7 @@ public class CustomSuccessHandler extends SimpleUrlAuthenticationSuccessHandler
         CustomOAuth2User customUserDetails = (CustomOAuth2User) authentication.getPrincipal();
 
         String providerId = customUserDetails.getProviderId(); // 사용자의 providerId 가져오기
+        Long userId = customUserDetails.getUserId(); // 사용자의 ID 가져오기
 
         // 사용자의 권한 정보 가져오기
         Collection<? extends GrantedAuthority> authorities = authentication.getAuthorities();
@@ -49,10 +51,10 @@ public class CustomSuccessHandler extends SimpleUrlAuthenticationSuccessHandler
         String role = auth.getAuthority();
 
         // JWT 토큰 생성
-        String refresh = jwtUtil.createJwt("refresh", providerId, role, 1209600000L); // 2주 (1209600000ms)
+        String refresh = jwtUtil.createJwt("refresh", providerId, userId, role, 1209600000L); // 2주 (1209600000ms)
 
         // Refresh 토큰 저장
-        addRefresh(providerId, refresh);
+        addRefresh(providerId, userId, refresh);
 
         // 응답 설정
         response.addCookie(createCookie(refresh));
@@ -60,18 +62,18 @@ public class CustomSuccessHandler extends SimpleUrlAuthenticationSuccessHandler
         response.sendRedirect("https://molip.site/home");
     }
 
-    private void addRefresh(String providerId, String refresh) {
-        // user entity 조회
-        User user = userRepository.findByProviderId(providerId);
+    private void addRefresh(String providerId, Long userId, String refresh) {
+        // user entity 조회 (사용자 ID를 알면 조회 없이 프록시 사용)
+        User user = userId != null ? userRepository.getReferenceById(userId) : userRepository.findByProviderId(providerId);
 
-        // 동일한 user에 대한 기존 refresh token DB에서 삭제
-        refreshTokenRepository.deleteByUser(user);
+        // 동일한 user에 대한 기존 refresh token DB에서 삭제 (엔티티 조회 없이 한 번의 DELETE)
+        refreshTokenRepository.deleteByUserId(user.getUserId());
 
         // 새로운 refresh token DB에 저장
         LocalDateTime expirationTime = LocalDateTime.now().plusWeeks(2); // 현재 시간에 2주를 더하여 만료 시간 설정
         RefreshToken refreshToken = new RefreshToken();
         refreshToken.setUser(user);
-        refreshToken.setRefreshToken(refresh);
+        refreshToken.setTokenHash(TokenDigest.sha256Hex(refresh)); // 원문 대신 다이제스트 저장
         refreshToken.setExpirationTime(expirationTime);
 
         refreshTokenRepository.save(refreshToken);
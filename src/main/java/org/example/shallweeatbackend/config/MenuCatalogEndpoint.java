@@ -0,0 +1,44 @@
+package org.example.shallweeatbackend.config;
+
+import lombok.RequiredArgsConstructor;
+import org.example.shallweeatbackend.service.MenuCatalogService;
+import org.example.shallweeatbackend.util.MenuCatalog;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 메뉴 카탈로그 상태를 노출하는 actuator 엔드포인트입니다. (/actuator/menucatalog)
+ * GET 요청은 현재 카탈로그 버전과 메뉴 수를, POST 요청은 DB에서 카탈로그를 즉시 재적재한 결과를 반환합니다.
+ * 웹으로 노출하려면 management.endpoints.web.exposure.include 설정에 menucatalog를 추가해야 합니다.
+ */
+@Component
+@Endpoint(id = "menucatalog")
+@RequiredArgsConstructor
+public class MenuCatalogEndpoint {
+
+    private final MenuCatalogService menuCatalogService;
+
+    @ReadOperation
+    public Map<String, Object> catalog() {
+        return describe(menuCatalogService.getCatalog());
+    }
+
+    @WriteOperation
+    public Map<String, Object> reload() {
+        return describe(menuCatalogService.reload());
+    }
+
+    private Map<String, Object> describe(MenuCatalog catalog) {
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("version", catalog.getVersion());
+        response.put("menuCount", catalog.getMenus().size());
+        response.put("precomputedCombinations", catalog.getRecommendationTable() == null ? 0 : catalog.getRecommendationTable().size());
+        response.put("loadedAt", catalog.getLoadedAt());
+        return response;
+    }
+}
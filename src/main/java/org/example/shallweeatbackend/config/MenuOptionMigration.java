@@ -0,0 +1,24 @@
+package org.example.shallweeatbackend.config;
+
+import lombok.RequiredArgsConstructor;
+import org.example.shallweeatbackend.service.MenuOptionSyncService;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * 메뉴의 콤마 구분 옵션 문자열을 menu_option 테이블의 행으로 옮기는 마이그레이션입니다.
+ * 애플리케이션 시작 시마다 전체 메뉴를 동기화하므로, 기존 데이터 변환과 DB에서 직접 수정된 메뉴의 재동기화를 함께 처리합니다.
+ * (실행 중 JPA로 변경된 메뉴는 MenuOptionSyncService가 커밋 후 바로 동기화합니다.)
+ */
+@Component
+@RequiredArgsConstructor
+public class MenuOptionMigration implements ApplicationRunner {
+
+    private final MenuOptionSyncService menuOptionSyncService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        menuOptionSyncService.syncAll();
+    }
+}
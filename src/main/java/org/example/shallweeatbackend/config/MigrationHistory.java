@@ -0,0 +1,36 @@
+package org.example.shallweeatbackend.config;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 한 번만 실행해야 하는 데이터 마이그레이션의 완료 기록입니다.
+ * 마이그레이션은 웹 서버가 요청을 받기 시작한 뒤에 실행되므로, "테이블이 비어 있으면 실행" 같은 조건은
+ * 그 사이 들어온 요청이 만든 행 때문에 건너뛰어질 수 있어 이 기록으로 실행 여부를 판단합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class MigrationHistory {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 기록 테이블 생성 (DDL은 트랜잭션 밖에서 실행)
+    @PostConstruct
+    void createTable() {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS migration_history ("
+                + "name VARCHAR(100) NOT NULL PRIMARY KEY, "
+                + "applied_date TIMESTAMP NOT NULL)");
+    }
+
+    public boolean isApplied(String name) {
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM migration_history WHERE name = ?", Long.class, name);
+        return count != null && count > 0;
+    }
+
+    // 마이그레이션과 같은 트랜잭션에서 호출해 데이터 변경과 함께 커밋
+    public void markApplied(String name) {
+        jdbcTemplate.update("INSERT INTO migration_history (name, applied_date) VALUES (?, CURRENT_TIMESTAMP)", name);
+    }
+}
@@ -0,0 +1,64 @@
+package org.example.shallweeatbackend.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.shallweeatbackend.util.TokenDigest;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * refresh 토큰 원문(refresh_token 컬럼)으로 저장된 기존 행을 다이제스트(token_hash 컬럼)로 옮기는 마이그레이션입니다.
+ * 같은 토큰이 여러 행에 저장되어 있으면 가장 최근 행만 남기고 다이제스트를 채운 뒤(트랜잭션),
+ * 커밋 후 원문 컬럼을 삭제합니다(DDL, 자동 커밋). 컬럼 삭제가 실패해도 다음 기동 시 이어서 진행됩니다.
+ * (현재 스키마에 원문 컬럼이 없으면 이미 마이그레이션된 것이므로 아무것도 하지 않습니다.)
+ */
+@Component
+@Slf4j
+public class RefreshTokenHashMigration implements ApplicationRunner {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SchemaMetadata schemaMetadata;
+    private final TransactionTemplate transactionTemplate;
+
+    public RefreshTokenHashMigration(JdbcTemplate jdbcTemplate, SchemaMetadata schemaMetadata,
+                                     PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.schemaMetadata = schemaMetadata;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!schemaMetadata.columnExists("refresh_token", "refresh_token")) {
+            return;
+        }
+
+        Integer hashed = transactionTemplate.execute(status -> {
+            jdbcTemplate.update("DELETE FROM refresh_token WHERE refresh_token IS NOT NULL AND refresh_token_id NOT IN ("
+                    + "SELECT kept.refresh_token_id FROM ("
+                    + "SELECT MAX(r.refresh_token_id) AS refresh_token_id FROM refresh_token r WHERE r.refresh_token IS NOT NULL GROUP BY r.refresh_token"
+                    + ") kept)");
+
+            List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                    "SELECT refresh_token_id, refresh_token FROM refresh_token WHERE token_hash IS NULL AND refresh_token IS NOT NULL");
+            List<Object[]> hashes = rows.stream()
+                    .map(row -> new Object[]{TokenDigest.sha256Hex((String) row.get("refresh_token")), row.get("refresh_token_id")})
+                    .toList();
+            jdbcTemplate.batchUpdate("UPDATE refresh_token SET token_hash = ? WHERE refresh_token_id = ?", hashes);
+
+            // 다이제스트가 없는 행은 어떤 토큰으로도 찾을 수 없으므로 삭제
+            jdbcTemplate.update("DELETE FROM refresh_token WHERE token_hash IS NULL");
+            return hashes.size();
+        });
+        log.info("refresh 토큰 다이제스트 마이그레이션 완료 (행 수: {})", hashed);
+
+        // 데이터 변경이 커밋된 뒤 트랜잭션 밖에서 원문 컬럼 삭제
+        jdbcTemplate.execute("ALTER TABLE refresh_token DROP COLUMN refresh_token");
+    }
+}
@@ -0,0 +1,44 @@
+package org.example.shallweeatbackend.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 마이그레이션에서 사용하는 현재 스키마(DATABASE())의 컬럼/제약 조건 조회와 DDL 실행입니다.
+ * DDL은 자동 커밋되므로 데이터 변경 트랜잭션이 끝난 뒤 트랜잭션 밖에서 호출합니다.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class SchemaMetadata {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public boolean columnExists(String table, String column) {
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM information_schema.columns "
+                + "WHERE table_schema = DATABASE() AND LOWER(table_name) = ? AND LOWER(column_name) = ?", Long.class, table, column);
+        return count != null && count > 0;
+    }
+
+    public boolean constraintExists(String table, String constraint) {
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM information_schema.table_constraints "
+                + "WHERE table_schema = DATABASE() AND LOWER(table_name) = ? AND LOWER(constraint_name) = ?", Long.class, table, constraint);
+        return count != null && count > 0;
+    }
+
+    // 유니크 제약이 없으면 추가 (중복 행 정리 직후 그 사이 생긴 중복으로 실패하면 다음 기동 시 다시 시도)
+    public void addUniqueConstraintIfMissing(String table, String constraint, String columns) {
+        if (constraintExists(table, constraint)) {
+            return;
+        }
+        try {
+            jdbcTemplate.execute("ALTER TABLE " + table + " ADD CONSTRAINT " + constraint + " UNIQUE (" + columns + ")");
+            log.info("유니크 제약 추가 완료 ({}.{})", table, constraint);
+        } catch (DataAccessException e) {
+            log.warn("유니크 제약을 추가하지 못했습니다. 다음 기동 시 다시 시도합니다. ({}.{})", table, constraint, e);
+        }
+    }
+}
@@ -6,6 +6,7 @@ import org.example.shallweeatbackend.filter.CustomLogoutFilter;
 import org.example.shallweeatbackend.filter.JWTFilter;
 import org.example.shallweeatbackend.repository.RefreshTokenRepository;
 import org.example.shallweeatbackend.service.CustomOAuth2UserService;
+import org.example.shallweeatbackend.service.VerifiedTokenCache;
 import org.example.shallweeatbackend.util.JWTUtil;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -32,6 +33,7 @@ public class SecurityConfig {
     private final CustomOAuth2UserService customOAuth2UserService;
     private final CustomSuccessHandler customSuccessHandler;
     private final JWTUtil jwtUtil;
+    private final VerifiedTokenCache verifiedTokenCache;
     private final RefreshTokenRepository refreshTokenRepository;
 
     @Bean
@@ -67,7 +69,7 @@ public class SecurityConfig {
 
         // JWTFilter 추가
         http
-                .addFilterAfter(new JWTFilter(jwtUtil), OAuth2LoginAuthenticationFilter.class);
+                .addFilterAfter(new JWTFilter(jwtUtil, verifiedTokenCache), OAuth2LoginAuthenticationFilter.class);
 
         // CustomLogoutFilter 추가
         http
@@ -0,0 +1,75 @@
+package org.example.shallweeatbackend.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 기존 팀원 데이터로 teamboard.member_count(생성자를 제외한 팀원 수)를 채우는 마이그레이션입니다.
+ * 이전 로직에서 동시 참여로 생긴 중복 팀원 행을 먼저 정리하고, 스키마 업데이트 때 중복 행 때문에 만들지 못한
+ * (teamboard_id, user_id) 유니크 제약을 직접 추가합니다.
+ * 마이그레이션 전에 들어온 참여가 일부 팀 메뉴판의 팀원 수를 먼저 바꿨을 수 있으므로,
+ * MigrationHistory에 기록이 없으면 모든 팀 메뉴판의 팀원 수를 실제 팀원 행 수로 다시 맞춥니다.
+ * 유니크 제약이 있고 기록도 있으면 전체 테이블을 훑는 정리/재계산 없이 바로 끝납니다.
+ */
+@Component
+@Slf4j
+public class TeamMemberCountMigration implements ApplicationRunner {
+
+    private static final String NAME = "teamboard_member_count_backfill";
+    private static final String UNIQUE_KEY = "uk_team_member_teamboard_user";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MigrationHistory migrationHistory;
+    private final SchemaMetadata schemaMetadata;
+    private final TransactionTemplate transactionTemplate;
+
+    public TeamMemberCountMigration(JdbcTemplate jdbcTemplate, MigrationHistory migrationHistory, SchemaMetadata schemaMetadata,
+                                    PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.migrationHistory = migrationHistory;
+        this.schemaMetadata = schemaMetadata;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        // 유니크 제약이 있으면 중복 팀원이 생길 수 없으므로 정리 생략
+        boolean uniqueKeyExists = schemaMetadata.constraintExists("team_member", UNIQUE_KEY);
+        boolean applied = migrationHistory.isApplied(NAME);
+        if (uniqueKeyExists && applied) {
+            return;
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            int duplicates = 0;
+            if (!uniqueKeyExists) {
+                duplicates = jdbcTemplate.update("DELETE FROM team_member WHERE team_member_id NOT IN ("
+                        + "SELECT kept.team_member_id FROM ("
+                        + "SELECT MIN(tm.team_member_id) AS team_member_id FROM team_member tm GROUP BY tm.teamboard_id, tm.user_id"
+                        + ") kept)");
+                if (duplicates > 0) {
+                    log.info("중복 팀원 행 정리 완료 (삭제 행 수: {})", duplicates);
+                }
+            }
+
+            if (duplicates > 0 || !applied) {
+                int updated = jdbcTemplate.update("UPDATE teamboard tb "
+                        + "SET member_count = (SELECT COUNT(*) FROM team_member tm WHERE tm.teamboard_id = tb.teamboard_id)");
+                if (!applied) {
+                    migrationHistory.markApplied(NAME);
+                }
+                log.info("팀원 수 초기화 완료 (팀 메뉴판 수: {})", updated);
+            }
+        });
+
+        // DDL은 데이터 정리가 커밋된 뒤 트랜잭션 밖에서 실행
+        if (!uniqueKeyExists) {
+            schemaMetadata.addUniqueConstraintIfMissing("team_member", UNIQUE_KEY, "teamboard_id, user_id");
+        }
+    }
+}
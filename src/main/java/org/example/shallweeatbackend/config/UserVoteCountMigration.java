@@ -0,0 +1,85 @@
+package org.example.shallweeatbackend.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 기존 투표 데이터로 user_vote_count(팀 메뉴판별 사용자 투표 수) 테이블을 채우는 마이그레이션입니다.
+ * 이전 로직에서 동시 요청으로 생긴 중복 투표(같은 팀 메뉴판, 사용자, 메뉴)를 먼저 정리하고,
+ * 스키마 업데이트 때 중복 투표 때문에 만들지 못한 (teamboard_id, user_id, menu_id) 유니크 제약을 직접 추가합니다.
+ * 마이그레이션 전에 들어온 투표가 일부 행을 먼저 만들었을 수 있으므로, 이미 있는 행은 실제 투표 수로 다시 맞추고
+ * 없는 (팀 메뉴판, 사용자) 행만 추가합니다. 완료 여부는 MigrationHistory에 기록하며,
+ * 이후에 중복 투표를 정리한 경우에는 투표 수와 메뉴별 투표 수 집계를 다시 계산합니다.
+ * 중복 투표 정리는 유니크 제약이 없을 때만 실행하므로, 제약과 기록이 모두 있으면 테이블을 훑지 않고 바로 끝납니다.
+ */
+@Component
+@Slf4j
+public class UserVoteCountMigration implements ApplicationRunner {
+
+    private static final String NAME = "user_vote_count_backfill";
+    private static final String UNIQUE_KEY = "uk_vote_teamboard_user_menu";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MigrationHistory migrationHistory;
+    private final SchemaMetadata schemaMetadata;
+    private final TransactionTemplate transactionTemplate;
+
+    public UserVoteCountMigration(JdbcTemplate jdbcTemplate, MigrationHistory migrationHistory, SchemaMetadata schemaMetadata,
+                                  PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.migrationHistory = migrationHistory;
+        this.schemaMetadata = schemaMetadata;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        // 유니크 제약이 있으면 중복 투표가 생길 수 없으므로 정리 생략
+        if (!schemaMetadata.constraintExists("vote", UNIQUE_KEY)) {
+            removeDuplicateVotes();
+
+            // 중복 투표가 정리된 뒤 트랜잭션 밖에서 유니크 제약 추가 (DDL은 자동 커밋)
+            schemaMetadata.addUniqueConstraintIfMissing("vote", UNIQUE_KEY, "teamboard_id, user_id, menu_id");
+        }
+
+        if (migrationHistory.isApplied(NAME)) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            int updated = recountUserVoteCounts();
+            int inserted = jdbcTemplate.update("INSERT INTO user_vote_count (teamboard_id, user_id, vote_count) "
+                    + "SELECT v.teamboard_id, v.user_id, COUNT(*) FROM vote v "
+                    + "WHERE NOT EXISTS (SELECT 1 FROM user_vote_count c WHERE c.teamboard_id = v.teamboard_id AND c.user_id = v.user_id) "
+                    + "GROUP BY v.teamboard_id, v.user_id");
+            migrationHistory.markApplied(NAME);
+            log.info("사용자 투표 수 테이블 초기화 완료 (갱신 행 수: {}, 추가 행 수: {})", updated, inserted);
+        });
+    }
+
+    // 중복 투표를 정리하고, 정리한 행이 있으면 메뉴별/사용자별 투표 수를 다시 계산
+    private void removeDuplicateVotes() {
+        transactionTemplate.executeWithoutResult(status -> {
+            int duplicates = jdbcTemplate.update("DELETE FROM vote WHERE vote_id NOT IN ("
+                    + "SELECT kept.vote_id FROM ("
+                    + "SELECT MIN(v.vote_id) AS vote_id FROM vote v GROUP BY v.teamboard_id, v.user_id, v.menu_id"
+                    + ") kept)");
+            if (duplicates > 0) {
+                jdbcTemplate.update("UPDATE vote_tally t SET vote_count = ("
+                        + "SELECT COUNT(*) FROM vote v WHERE v.teamboard_id = t.teamboard_id AND v.menu_id = t.menu_id)");
+                recountUserVoteCounts();
+                log.info("중복 투표 정리 완료 (삭제 행 수: {})", duplicates);
+            }
+        });
+    }
+
+    // 이미 있는 사용자 투표 수 행을 실제 투표 수로 맞춤
+    private int recountUserVoteCounts() {
+        return jdbcTemplate.update("UPDATE user_vote_count c SET vote_count = ("
+                + "SELECT COUNT(*) FROM vote v WHERE v.teamboard_id = c.teamboard_id AND v.user_id = c.user_id)");
+    }
+}
@@ -0,0 +1,43 @@
+package org.example.shallweeatbackend.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 기존 투표 데이터로 vote_tally(팀 메뉴판별 메뉴 투표 수) 테이블을 채우는 마이그레이션입니다.
+ * 마이그레이션 전에 들어온 투표가 일부 행을 먼저 만들었을 수 있으므로, 이미 있는 행은 실제 투표 수로 다시 맞추고
+ * 없는 (팀 메뉴판, 메뉴) 행만 추가합니다. 완료 여부는 MigrationHistory에 기록해 한 번만 실행되며,
+ * 이후에는 투표 생성/수정/삭제 시 집계가 함께 갱신됩니다.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class VoteTallyMigration implements ApplicationRunner {
+
+    private static final String NAME = "vote_tally_backfill";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MigrationHistory migrationHistory;
+
+    @Override
+    @Transactional
+    public void run(ApplicationArguments args) {
+        if (migrationHistory.isApplied(NAME)) {
+            return;
+        }
+
+        int updated = jdbcTemplate.update("UPDATE vote_tally t SET vote_count = ("
+                + "SELECT COUNT(*) FROM vote v WHERE v.teamboard_id = t.teamboard_id AND v.menu_id = t.menu_id)");
+        int inserted = jdbcTemplate.update("INSERT INTO vote_tally (teamboard_id, menu_id, vote_count) "
+                + "SELECT v.teamboard_id, v.menu_id, COUNT(*) FROM vote v "
+                + "WHERE NOT EXISTS (SELECT 1 FROM vote_tally t WHERE t.teamboard_id = v.teamboard_id AND t.menu_id = v.menu_id) "
+                + "GROUP BY v.teamboard_id, v.menu_id");
+        migrationHistory.markApplied(NAME);
+        log.info("투표 집계 테이블 초기화 완료 (갱신 행 수: {}, 추가 행 수: {})", updated, inserted);
+    }
+}
@@ -0,0 +1,5 @@
+package org.example.shallweeatbackend.constant;
+
+public enum MenuOptionType {
+    TASTE, CARB, WEATHER, CATEGORY
+}
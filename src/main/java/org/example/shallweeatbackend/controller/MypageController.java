@@ -1,11 +1,13 @@
 package org.example.shallweeatbackend.controller;
 import lombok.RequiredArgsConstructor;
+import org.example.shallweeatbackend.dto.CursorPageDTO;
 import org.example.shallweeatbackend.dto.CustomOAuth2User;
 import org.example.shallweeatbackend.dto.UserDTO;
 import org.example.shallweeatbackend.service.MypageService;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
@@ -26,7 +28,15 @@ public class MypageController {
 
     // 전체 팀 메뉴판에서의 투표 결과 조회
     @GetMapping("/votes")
-    public List<Map<String, Object>> getAllVotes() {
-        return mypageService.getAllVotes();
+    public List<Map<String, Object>> getAllVotes(@AuthenticationPrincipal CustomOAuth2User principal) {
+        return mypageService.getAllVotes(principal.getProviderId());
+    }
+
+    // 전체 팀 메뉴판에서의 투표 결과 조회 (최신 메뉴판부터 limit개씩, after: 이전 페이지의 nextCursor)
+    @GetMapping(value = "/votes", params = "limit")
+    public CursorPageDTO<Map<String, Object>> getVoteHistory(@AuthenticationPrincipal CustomOAuth2User principal,
+                                                             @RequestParam(required = false) Long after,
+                                                             @RequestParam int limit) {
+        return mypageService.getVoteHistory(principal.getProviderId(), after, limit);
     }
 }
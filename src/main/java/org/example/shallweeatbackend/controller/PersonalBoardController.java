@@ -4,11 +4,13 @@ import lombok.RequiredArgsConstructor;
 import org.example.shallweeatbackend.dto.*;
 import org.example.shallweeatbackend.exception.PersonalBoardNotFoundException;
 import org.example.shallweeatbackend.exception.UserNotFoundException;
+import org.example.shallweeatbackend.service.BoardVersionService;
 import org.example.shallweeatbackend.service.PersonalBoardService;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.HashMap;
 import java.util.List;
@@ -20,6 +22,7 @@ import java.util.Map;
 public class PersonalBoardController {
 
     private final PersonalBoardService personalBoardService;
+    private final BoardVersionService boardVersionService;
 
     @PostMapping
     public PersonalBoardDTO createPersonalBoard(@AuthenticationPrincipal CustomOAuth2User principal, @RequestParam String name) {
@@ -32,12 +35,18 @@ public class PersonalBoardController {
     }
 
     @GetMapping("/{personalBoardId}")
-    public List<RecommendMenuDTO> getMenusByPersonalBoardId(@PathVariable Long personalBoardId) {
+    public List<RecommendMenuDTO> getMenusByPersonalBoardId(@PathVariable Long personalBoardId, WebRequest webRequest) {
+        if (isNotModified(personalBoardId, webRequest)) {
+            return null;
+        }
         return personalBoardService.getMenusByPersonalBoardId(personalBoardId);
     }
 
     @GetMapping("/{personalBoardId}/{menuId}")
-    public RecommendMenuDTO getMenuDetails(@PathVariable Long personalBoardId, @PathVariable Long menuId) {
+    public RecommendMenuDTO getMenuDetails(@PathVariable Long personalBoardId, @PathVariable Long menuId, WebRequest webRequest) {
+        if (isNotModified(personalBoardId, webRequest)) {
+            return null;
+        }
         return personalBoardService.getMenuDetails(personalBoardId, menuId);
     }
 
@@ -60,15 +69,32 @@ public class PersonalBoardController {
     }
 
     @GetMapping("/{personalBoardId}/categories")
-    public List<CategoryMenuDTO> getAllMenusByCategory(@PathVariable Long personalBoardId) {
+    public List<CategoryMenuDTO> getAllMenusByCategory(@PathVariable Long personalBoardId, WebRequest webRequest) {
+        if (isNotModified(personalBoardId, webRequest)) {
+            return null;
+        }
         return personalBoardService.getAllMenusByCategory(personalBoardId);
     }
 
+    @GetMapping(value = "/{personalBoardId}/categories", params = "category")
+    public List<CategoryMenuDTO> getMenusByCategory(@PathVariable Long personalBoardId, @RequestParam String category, WebRequest webRequest) {
+        if (isNotModified(personalBoardId, webRequest)) {
+            return null;
+        }
+        return personalBoardService.getMenusByCategory(personalBoardId, category);
+    }
+
     @PostMapping("/guest/recommend")
     public List<CategoryMenuDTO> recommendMenusForGuest(@RequestBody RecommendOptionsDTO options) {
         return personalBoardService.recommendMenusForGuest(options);
     }
 
+    // 개인 메뉴판 내용 버전으로 만든 ETag가 If-None-Match와 같으면 true (304 응답, 메뉴 목록은 조회하지 않음)
+    private boolean isNotModified(Long personalBoardId, WebRequest webRequest) {
+        String eTag = boardVersionService.getPersonalBoardETag(personalBoardId);
+        return eTag != null && webRequest.checkNotModified(eTag);
+    }
+
     // 예외 처리 핸들러 추가
     @ExceptionHandler(UserNotFoundException.class)
     public ResponseEntity<Map<String, String>> handleUserNotFoundException(UserNotFoundException ex) {
@@ -69,4 +69,16 @@ public class TeamBoardController {
         return ResponseEntity.ok(teamBoards);
     }
 
+    // 사용자 별 팀 메뉴판 목록 조회 (최신 메뉴판부터 limit개씩, after: 이전 페이지의 nextCursor)
+    @GetMapping(value = "/list", params = "limit")
+    public ResponseEntity<CursorPageDTO<TeamBoardListDTO>> getUserTeamBoards(@AuthenticationPrincipal CustomOAuth2User principal,
+                                                                              @RequestParam(required = false) Long after,
+                                                                              @RequestParam int limit) {
+        if (principal == null) {
+            throw new IllegalStateException("사용자가 인증되지 않았습니다.");
+        }
+        CursorPageDTO<TeamBoardListDTO> teamBoards = teamBoardService.getUserTeamBoards(principal.getProviderId(), after, limit);
+        return ResponseEntity.ok(teamBoards);
+    }
+
 }
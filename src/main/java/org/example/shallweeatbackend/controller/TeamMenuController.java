@@ -3,15 +3,19 @@ package org.example.shallweeatbackend.controller;
 import lombok.RequiredArgsConstructor;
 import org.example.shallweeatbackend.dto.*;
 import org.example.shallweeatbackend.entity.TeamBoardMenu;
+import org.example.shallweeatbackend.service.BoardVersionService;
+import org.example.shallweeatbackend.service.TeamBoardEventService;
 import org.example.shallweeatbackend.service.TeamBoardMenuService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/teamboards")
@@ -19,10 +23,15 @@ import java.util.stream.Collectors;
 public class TeamMenuController {
 
     private TeamBoardMenuService teamBoardMenuService;
+    private TeamBoardEventService teamBoardEventService;
+    private BoardVersionService boardVersionService;
 
     @Autowired
-    public TeamMenuController(TeamBoardMenuService teamBoardMenuService){
+    public TeamMenuController(TeamBoardMenuService teamBoardMenuService, TeamBoardEventService teamBoardEventService,
+                              BoardVersionService boardVersionService){
         this.teamBoardMenuService = teamBoardMenuService;
+        this.teamBoardEventService = teamBoardEventService;
+        this.boardVersionService = boardVersionService;
     }
 
     // 메뉴를 팀 메뉴판에 추가
@@ -31,9 +40,7 @@ public class TeamMenuController {
             @PathVariable Long teamBoardId,
             @RequestBody AddMenusToTeamBoardRequest request) {
         List<TeamBoardMenu> teamBoardMenus = teamBoardMenuService.addMenusToTeamBoard(principal.getProviderId(), teamBoardId, request.getMenuIds());
-        List<TeamBoardMenuDTO> teamBoardMenuDTOs = teamBoardMenus.stream()
-                .map(teamBoardMenuService::convertToDTO2)
-                .collect(Collectors.toList());
+        List<TeamBoardMenuDTO> teamBoardMenuDTOs = teamBoardMenuService.convertToDTOs(teamBoardMenus);
         return ResponseEntity.ok(teamBoardMenuDTOs);
     }
 
@@ -48,23 +55,27 @@ public class TeamMenuController {
         List<TeamBoardMenu> updatedTeamBoardMenus = teamBoardMenuService.updateMenusInTeamBoard(
                 principal.getProviderId(), teamBoardId, request.getMenuIds());
 
-        List<TeamBoardMenuDTO> teamBoardMenuDTOs = updatedTeamBoardMenus.stream()
-                .map(teamBoardMenuService::convertToDTO2)
-                .collect(Collectors.toList());
+        List<TeamBoardMenuDTO> teamBoardMenuDTOs = teamBoardMenuService.convertToDTOs(updatedTeamBoardMenus);
 
         return ResponseEntity.ok(teamBoardMenuDTOs);
     }
 
     // 팀 메뉴판에 담긴 전체 메뉴 목록 조회
     @GetMapping("/{teamBoardId}/teammenuList")
-    public ResponseEntity<List<TeamBoardMenuDTO>> showTeamBoardMenuList(@PathVariable Long teamBoardId) {
+    public ResponseEntity<List<TeamBoardMenuDTO>> showTeamBoardMenuList(@PathVariable Long teamBoardId, WebRequest webRequest) {
+        if (isNotModified(teamBoardId, webRequest)) {
+            return null;
+        }
         List<TeamBoardMenuDTO> teamBoardMenuList = teamBoardMenuService.getTeamBoardMenuList(teamBoardId);
         return ResponseEntity.ok(teamBoardMenuList);
     }
 
     // 팀 메뉴판에 담긴 전체 메뉴 목록 조회 => 카테고리별 정렬
     @GetMapping("/{teamBoardId}/teammenuList/categories")
-    public ResponseEntity<List<CategoryMenuDTO>> showGroupedTeamBoardMenuList(@PathVariable Long teamBoardId) {
+    public ResponseEntity<List<CategoryMenuDTO>> showGroupedTeamBoardMenuList(@PathVariable Long teamBoardId, WebRequest webRequest) {
+        if (isNotModified(teamBoardId, webRequest)) {
+            return null;
+        }
         List<CategoryMenuDTO> groupedTeamBoardMenuList = teamBoardMenuService.getGroupedTeamBoardMenuList(teamBoardId);
         return ResponseEntity.ok(groupedTeamBoardMenuList);
     }
@@ -73,7 +84,11 @@ public class TeamMenuController {
     @GetMapping("/{teamBoardId}/teammenuList/{teamBoardMenuId}")
     public ResponseEntity<TeamBoardMenuDTO> getTeamBoardMenu(
             @PathVariable Long teamBoardId,
-            @PathVariable Long teamBoardMenuId) {
+            @PathVariable Long teamBoardMenuId,
+            WebRequest webRequest) {
+        if (isNotModified(teamBoardId, webRequest)) {
+            return null;
+        }
         TeamBoardMenuDTO teamBoardMenuDTO = teamBoardMenuService.getTeamBoardMenu(teamBoardId, teamBoardMenuId);
         return ResponseEntity.ok(teamBoardMenuDTO);
     }
@@ -84,6 +99,19 @@ public class TeamMenuController {
         return teamBoardMenuService.getTeamBoardDetails(teamBoardId);
     }
 
+    // 해당 팀 게시판의 메뉴 추가 인원수, 투표 참여 인원수, 투표 결과 변경을 실시간으로 구독 (SSE)
+    @GetMapping(value = "/{teamBoardId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeTeamBoardEvents(@AuthenticationPrincipal CustomOAuth2User principal,
+                                               @PathVariable("teamBoardId") Long teamBoardId) {
+        return teamBoardEventService.subscribe(principal.getProviderId(), teamBoardId);
+    }
+
+    // 팀 메뉴판 내용 버전으로 만든 ETag가 If-None-Match와 같으면 true (304 응답, 메뉴 목록은 조회하지 않음)
+    private boolean isNotModified(Long teamBoardId, WebRequest webRequest) {
+        String eTag = boardVersionService.getTeamBoardETag(teamBoardId);
+        return eTag != null && webRequest.checkNotModified(eTag);
+    }
+
 
 
 
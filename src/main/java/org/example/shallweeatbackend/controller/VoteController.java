@@ -4,12 +4,14 @@ import org.example.shallweeatbackend.dto.CountMembersNumDTO;
 import org.example.shallweeatbackend.dto.CountVotedMembersNumDTO;
 import org.example.shallweeatbackend.dto.CustomOAuth2User;
 import org.example.shallweeatbackend.dto.VoteDTO;
+import org.example.shallweeatbackend.service.BoardVersionService;
 import org.example.shallweeatbackend.service.VoteService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.HashMap;
 import java.util.List;
@@ -19,10 +21,12 @@ import java.util.Map;
 @RequestMapping("/votes")
 public class VoteController {
     private final VoteService voteService;
+    private final BoardVersionService boardVersionService;
 
     @Autowired
-    public VoteController(VoteService voteService) {
+    public VoteController(VoteService voteService, BoardVersionService boardVersionService) {
         this.voteService = voteService;
+        this.boardVersionService = boardVersionService;
     }
 
     // 투표 생성
@@ -41,7 +45,13 @@ public class VoteController {
 
     // 특정 팀 보드의 모든 투표 및 메뉴의 투표 수 조회
     @GetMapping("/teamboards/{teamBoardId}/votes")
-    public ResponseEntity<Map<String, Object>> getVoteResults(@PathVariable Long teamBoardId, @AuthenticationPrincipal CustomOAuth2User principal) {
+    public ResponseEntity<Map<String, Object>> getVoteResults(@PathVariable Long teamBoardId, @AuthenticationPrincipal CustomOAuth2User principal,
+                                                              WebRequest webRequest) {
+        // 팀 메뉴판 내용 버전이 그대로면 투표 결과를 조회하지 않고 304 응답 (사용자의 투표 여부도 투표하면 버전이 바뀌므로 함께 검증됨)
+        String eTag = boardVersionService.getTeamBoardETag(teamBoardId);
+        if (eTag != null && webRequest.checkNotModified(eTag)) {
+            return null;
+        }
         Map<String, Object> result = voteService.getVoteResults(teamBoardId, principal.getProviderId());
         return ResponseEntity.ok(result);
     }
@@ -0,0 +1,37 @@
+package org.example.shallweeatbackend.dto;
+
+import lombok.Getter;
+import org.example.shallweeatbackend.entity.Menu;
+
+import java.util.List;
+
+/**
+ * 메뉴 카탈로그 스냅샷에 보관되는 불변 메뉴 정보입니다.
+ * 여러 요청 스레드가 동시에 읽으므로 생성 후에는 값이 바뀌지 않습니다.
+ */
+@Getter
+public class CatalogMenuDTO {
+
+    private final Long menuId;
+    private final String imageUrl;
+    private final String menuName;
+    private final String tasteOptions;
+    private final String carbOptions;
+    private final String weatherOptions;
+    private final String categoryOptions;
+    private final List<String> tags;
+
+    // 태그까지 초기화된 Menu 엔티티로부터 생성
+    public CatalogMenuDTO(Menu menu) {
+        this.menuId = menu.getMenuId();
+        this.imageUrl = menu.getImageUrl();
+        this.menuName = menu.getMenuName();
+        this.tasteOptions = menu.getTasteOptions();
+        this.carbOptions = menu.getCarbOptions();
+        this.weatherOptions = menu.getWeatherOptions();
+        this.categoryOptions = menu.getCategoryOptions();
+        this.tags = menu.getMenuTags() == null ? List.of() : menu.getMenuTags().stream()
+                .map(menuTag -> menuTag.getTag().getName())
+                .toList();
+    }
+}
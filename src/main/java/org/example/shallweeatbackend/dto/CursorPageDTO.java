@@ -0,0 +1,13 @@
+package org.example.shallweeatbackend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class CursorPageDTO<T> {
+    private List<T> content;
+    private Long nextCursor; // 다음 페이지 요청 시 after 값으로 사용 (마지막 페이지면 null)
+}
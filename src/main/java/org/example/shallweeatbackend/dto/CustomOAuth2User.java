@@ -53,6 +53,11 @@ public class CustomOAuth2User implements OAuth2User {
         return userDTO.getEmail();
     }
 
+    // 사용자 ID 반환 (userId 클레임이 없는 이전 토큰으로 인증된 경우 null)
+    public Long getUserId() {
+        return userDTO.getUserId();
+    }
+
     // 제공자 이름과, ID를 조합한 고유 식별자 반환
     public String getProviderId() {
         return userDTO.getProviderId();
@@ -0,0 +1,18 @@
+package org.example.shallweeatbackend.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 팀 메뉴판 목록 조회 쿼리의 결과 한 행 (TeamBoardListDTO로 변환해 응답)
+ */
+public interface TeamBoardListProjection {
+    Long getTeamBoardId();
+    String getTeamBoardName();
+    String getTeamName();
+    Integer getTeamMembersNum();
+    LocalDateTime getCreatedDate();
+    LocalDateTime getModifiedDate();
+    Boolean getHasUserAddedMenu(); // 사용자가 메뉴를 추가했는지 여부
+    Boolean getVoted(); // 사용자의 투표 여부
+    Long getMenuAddedUserCount(); // 메뉴를 추가한 사용자 수
+}
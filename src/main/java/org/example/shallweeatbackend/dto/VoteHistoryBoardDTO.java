@@ -0,0 +1,14 @@
+package org.example.shallweeatbackend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+@AllArgsConstructor
+public class VoteHistoryBoardDTO {
+    private Long teamBoardId;
+    private String teamName;
+    private LocalDateTime voteDate; // 팀 메뉴판의 첫 투표 날짜
+}
@@ -0,0 +1,13 @@
+package org.example.shallweeatbackend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class VoteHistoryTallyDTO {
+    private Long teamBoardId;
+    private Long menuId;
+    private String menuName;
+    private Long voteCount;
+}
@@ -0,0 +1,12 @@
+package org.example.shallweeatbackend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class VoteTallyDTO {
+    private Long menuId;
+    private String menuName;
+    private Long voteCount;
+}
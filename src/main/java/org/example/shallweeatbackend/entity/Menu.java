@@ -3,6 +3,7 @@ package org.example.shallweeatbackend.entity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.example.shallweeatbackend.event.MenuCatalogEntityListener;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -15,7 +16,7 @@ import java.util.List;
 @Table(name = "menu")
 @Getter
 @Setter
-@EntityListeners(AuditingEntityListener.class)
+@EntityListeners({AuditingEntityListener.class, MenuCatalogEntityListener.class})
 public class Menu {
 
     @Id
@@ -36,6 +37,10 @@ public class Menu {
     @OneToMany(mappedBy = "menu", fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true)
     private List<MenuTag> menuTags;
 
+    // 옵션 문자열을 값 하나당 한 행으로 정규화한 목록 (DB에서 옵션으로 필터링할 때 사용)
+    @OneToMany(mappedBy = "menu", fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true)
+    private List<MenuOption> menuOptions = new ArrayList<>();
+
     @CreatedDate
     @Column(updatable = false)
     private LocalDateTime createdDate; // 생성 날짜
@@ -0,0 +1,30 @@
+package org.example.shallweeatbackend.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import org.example.shallweeatbackend.constant.MenuOptionType;
+
+@Entity
+@Table(name = "menu_option",
+        uniqueConstraints = @UniqueConstraint(name = "uk_menu_option_menu_type_value", columnNames = {"menu_id", "option_type", "option_value"}),
+        indexes = @Index(name = "idx_menu_option_type_value_menu", columnList = "option_type, option_value, menu_id"))
+@Getter
+@Setter
+public class MenuOption {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long menuOptionId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "menu_id", nullable = false)
+    private Menu menu;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "option_type", nullable = false, length = 20)
+    private MenuOptionType optionType; // 옵션 종류 (맛, 탄수화물, 날씨, 카테고리)
+
+    @Column(name = "option_value", nullable = false, length = 50)
+    private String optionValue; // 옵션 값 (ex: 매콤한, 밥, 한식)
+}
@@ -3,12 +3,14 @@ package org.example.shallweeatbackend.entity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.example.shallweeatbackend.event.MenuCatalogEntityListener;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 @Entity
 @Table(name = "menu_tag")
 @Getter
 @Setter
+@EntityListeners(MenuCatalogEntityListener.class)
 public class MenuTag {
 
     @Id
@@ -3,6 +3,7 @@ package org.example.shallweeatbackend.entity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -23,6 +24,11 @@ public class PersonalBoard {
 
     private String name;
 
+    // 메뉴판 이름/메뉴가 바뀔 때마다 1씩 증가하는 버전 (ETag로 사용, 조건부 UPDATE로만 증가)
+    @ColumnDefault("0")
+    @Column(name = "content_version", nullable = false, updatable = false)
+    private Long contentVersion = 0L;
+
     @ManyToOne
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
@@ -6,7 +6,8 @@ import lombok.Setter;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 @Entity
-@Table(name = "personal_board_menu")
+@Table(name = "personal_board_menu",
+        indexes = @Index(name = "idx_personal_board_menu_board_menu", columnList = "personal_board_id, menu_id"))
 @Getter
 @Setter
 @EntityListeners(AuditingEntityListener.class)
@@ -3,12 +3,16 @@ package org.example.shallweeatbackend.entity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.example.shallweeatbackend.util.TokenDigest;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
 
 @Entity
+@Table(name = "refresh_token",
+        uniqueConstraints = @UniqueConstraint(name = "uk_refresh_token_token_hash", columnNames = "token_hash"),
+        indexes = @Index(name = "idx_refresh_token_expiration_time", columnList = "expiration_time"))
 @Getter
 @Setter
 @EntityListeners(AuditingEntityListener.class)
@@ -22,7 +26,10 @@ public class RefreshToken {
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
-    private String refreshToken; // 리프레시 토큰
+    // 리프레시 토큰의 SHA-256 다이제스트 (토큰 원문은 저장하지 않음, TokenDigest.sha256Hex)
+    @Column(name = "token_hash", columnDefinition = "CHAR(" + TokenDigest.LENGTH + ")")
+    private String tokenHash;
+
     private LocalDateTime expirationTime; // 토큰 만료 일시
 
     @CreatedDate
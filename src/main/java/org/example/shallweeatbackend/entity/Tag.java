@@ -3,6 +3,7 @@ package org.example.shallweeatbackend.entity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.example.shallweeatbackend.event.MenuCatalogEntityListener;
 
 import java.util.List;
 
@@ -10,6 +11,7 @@ import java.util.List;
 @Table(name = "tag")
 @Getter
 @Setter
+@EntityListeners(MenuCatalogEntityListener.class)
 public class Tag {
 
     @Id
@@ -3,6 +3,7 @@ package org.example.shallweeatbackend.entity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -32,6 +33,16 @@ public class TeamBoard {
     @Column(name="team_members_num")
     private Integer teamMembersNum;
 
+    // 생성자(호스트)를 제외한 현재 팀원 수 (팀원 추가 시 조건부 UPDATE로만 증가하므로 엔티티 저장 시에는 갱신하지 않음)
+    @ColumnDefault("0")
+    @Column(name = "member_count", nullable = false, updatable = false)
+    private Integer memberCount = 0;
+
+    // 메뉴/투표 등 팀 메뉴판 내용이 바뀔 때마다 1씩 증가하는 버전 (ETag로 사용, 조건부 UPDATE로만 증가)
+    @ColumnDefault("0")
+    @Column(name = "content_version", nullable = false, updatable = false)
+    private Long contentVersion = 0L;
+
     @Column(name="team_name")
     private String teamName;
 
@@ -48,6 +59,12 @@ public class TeamBoard {
     @OneToMany(mappedBy = "teamBoard", fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true)
     private List<TeamMember> teamMembers = new ArrayList<>();
 
+    @OneToMany(mappedBy = "teamBoard", fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true)
+    private List<VoteTally> voteTallies = new ArrayList<>();
+
+    @OneToMany(mappedBy = "teamBoard", fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true)
+    private List<UserVoteCount> userVoteCounts = new ArrayList<>();
+
     //    @OneToMany(mappedBy = "teamboard", fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true)
 //    private List<TeamBoardMenu> teamBoardMenus;
 }
@@ -6,7 +6,9 @@ import lombok.Setter;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 @Entity
-@Table(name="team_member")
+@Table(name = "team_member",
+        uniqueConstraints = @UniqueConstraint(name = "uk_team_member_teamboard_user", columnNames = {"teamboard_id", "user_id"}),
+        indexes = @Index(name = "idx_team_member_user_teamboard", columnList = "user_id, teamboard_id"))
 @Getter
 @Setter
 @EntityListeners(AuditingEntityListener.class)
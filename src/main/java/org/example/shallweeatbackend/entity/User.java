@@ -12,7 +12,8 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
-@Table(name = "users")
+@Table(name = "users",
+        indexes = @Index(name = "idx_users_provider_id", columnList = "provider_id"))
 @Getter
 @Setter
 @EntityListeners(AuditingEntityListener.class)
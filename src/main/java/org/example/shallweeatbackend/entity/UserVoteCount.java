@@ -0,0 +1,29 @@
+package org.example.shallweeatbackend.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+@Entity
+@Table(name = "user_vote_count",
+        uniqueConstraints = @UniqueConstraint(name = "uk_user_vote_count_teamboard_user", columnNames = {"teamboard_id", "user_id"}))
+@Getter
+@Setter
+public class UserVoteCount {
+
+    @Id
+    @Column(name = "user_vote_count_id")
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long userVoteCountId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "teamboard_id", nullable = false)
+    private TeamBoard teamBoard;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Column(name = "vote_count", nullable = false)
+    private Integer voteCount; // 사용자가 해당 팀 메뉴판에서 투표한 메뉴 수 (투표 생성/수정/삭제와 같은 트랜잭션에서 조건부로 갱신)
+}
@@ -8,7 +8,8 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "vote")
+@Table(name = "vote",
+        uniqueConstraints = @UniqueConstraint(name = "uk_vote_teamboard_user_menu", columnNames = {"teamboard_id", "user_id", "menu_id"}))
 @Getter
 @Setter
 @EntityListeners(AuditingEntityListener.class)
@@ -0,0 +1,29 @@
+package org.example.shallweeatbackend.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+@Entity
+@Table(name = "vote_tally",
+        uniqueConstraints = @UniqueConstraint(name = "uk_vote_tally_teamboard_menu", columnNames = {"teamboard_id", "menu_id"}))
+@Getter
+@Setter
+public class VoteTally {
+
+    @Id
+    @Column(name = "vote_tally_id")
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long voteTallyId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "teamboard_id", nullable = false)
+    private TeamBoard teamBoard;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "menu_id", nullable = false)
+    private Menu menu;
+
+    @Column(name = "vote_count", nullable = false)
+    private Long voteCount; // 해당 팀 메뉴판에서 메뉴가 받은 투표 수 (투표 생성/수정/삭제와 같은 트랜잭션에서 갱신)
+}
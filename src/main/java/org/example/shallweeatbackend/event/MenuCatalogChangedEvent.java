@@ -0,0 +1,18 @@
+package org.example.shallweeatbackend.event;
+
+import lombok.Getter;
+
+/**
+ * 메뉴, 메뉴 태그, 태그 중 하나가 변경되었음을 알리는 이벤트입니다.
+ * 발행 시각을 기준으로, 이미 이후에 시작된 카탈로그 재적재가 있다면 중복 재적재를 생략합니다.
+ */
+@Getter
+public class MenuCatalogChangedEvent {
+
+    private final long changedAtNanos = System.nanoTime(); // 변경 발생 시각
+    private final Long menuId; // 변경된 메뉴 ID (메뉴 태그/태그 변경이면 null)
+
+    public MenuCatalogChangedEvent(Long menuId) {
+        this.menuId = menuId;
+    }
+}
@@ -0,0 +1,27 @@
+package org.example.shallweeatbackend.event;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.example.shallweeatbackend.entity.Menu;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * Menu, MenuTag, Tag 엔티티의 변경을 감지하여 MenuCatalogChangedEvent를 발행하는 JPA 엔티티 리스너입니다.
+ * 실제 카탈로그 재적재는 트랜잭션 커밋 이후에 이루어집니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class MenuCatalogEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onCatalogChange(Object entity) {
+        eventPublisher.publishEvent(new MenuCatalogChangedEvent(entity instanceof Menu menu ? menu.getMenuId() : null));
+    }
+}
@@ -0,0 +1,14 @@
+package org.example.shallweeatbackend.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 메뉴 카탈로그 스냅샷이 새 버전으로 교체되었음을 알리는 이벤트입니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class MenuCatalogReloadedEvent {
+
+    private final long version; // 새 카탈로그 버전
+}
@@ -0,0 +1,20 @@
+package org.example.shallweeatbackend.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 팀 메뉴판에 메뉴가 추가/수정되었거나 투표가 생성/수정/삭제되었음을 알리는 이벤트입니다.
+ * 트랜잭션이 커밋된 후 해당 팀 메뉴판을 구독 중인 SSE 연결에 변경 내용을 전송합니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class TeamBoardChangedEvent {
+
+    private final Long teamBoardId; // 변경된 팀 메뉴판 ID
+    private final Type type; // 변경 종류
+
+    public enum Type {
+        MENU, VOTE
+    }
+}
@@ -0,0 +1,7 @@
+package org.example.shallweeatbackend.exception;
+
+public class SubscriberLimitExceededException extends RuntimeException {
+    public SubscriberLimitExceededException(String message) {
+        super(message);
+    }
+}
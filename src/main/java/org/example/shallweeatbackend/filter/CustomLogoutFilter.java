@@ -10,6 +10,8 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.example.shallweeatbackend.util.JWTUtil;
+import org.example.shallweeatbackend.util.JwtClaims;
+import org.example.shallweeatbackend.util.TokenDigest;
 import org.example.shallweeatbackend.repository.RefreshTokenRepository;
 import org.springframework.web.filter.GenericFilterBean;
 
@@ -64,9 +66,10 @@ public class CustomLogoutFilter extends GenericFilterBean {
             return;
         }
 
-        // refresh 토큰이 만료되었는지 확인
+        // refresh 토큰 서명과 만료 여부를 한 번에 검증하고 클레임 획득
+        JwtClaims claims;
         try {
-            jwtUtil.isExpired(refresh);
+            claims = jwtUtil.parse(refresh);
         } catch (ExpiredJwtException e) {
             // refresh 토큰이 만료된 경우, 클라이언트에게 401 에러 응답
             response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
@@ -75,26 +78,21 @@ public class CustomLogoutFilter extends GenericFilterBean {
         }
 
         // refresh 토큰이 리프레시용인지 확인 (발급 시 페이로드에 명시)
-        String category = jwtUtil.getCategory(refresh);
-        if (!category.equals("refresh")) {
+        if (!claims.isRefresh()) {
             // 유효하지 않은 리프레시 토큰일 경우, 클라이언트에게 400 에러 응답
             response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
             response.getWriter().write("{\"message\": \"유효하지 않은 토큰 유형입니다.\"}");
             return;
         }
 
-        // refresh 토큰이 DB에 저장되어 있는지 확인
-        Boolean isExist = refreshTokenRepository.existsByRefreshToken(refresh);
-        if (!isExist) {
+        // DB에서 refresh 토큰 삭제 (토큰 다이제스트로 한 번의 DELETE, 삭제된 행이 없으면 저장되어 있지 않은 토큰)
+        if (refreshTokenRepository.deleteByTokenHash(TokenDigest.sha256Hex(refresh)) == 0) {
             // DB에 저장되어 있지 않은 경우, 클라이언트에게 404 에러 응답
             response.setStatus(HttpServletResponse.SC_NOT_FOUND);
             response.getWriter().write("{\"message\": \"리프레시 토큰을 찾을 수 없습니다.\"}");
             return;
         }
 
-        // DB에서 refresh 토큰 삭제
-        refreshTokenRepository.deleteByRefreshToken(refresh);
-
         // 클라이언트에게 refresh 쿠키 삭제 요청
         Cookie cookie = new Cookie("refresh", null);
         cookie.setMaxAge(0);
@@ -8,8 +8,10 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.example.shallweeatbackend.util.JWTUtil;
+import org.example.shallweeatbackend.util.JwtClaims;
 import org.example.shallweeatbackend.dto.CustomOAuth2User;
 import org.example.shallweeatbackend.dto.UserDTO;
+import org.example.shallweeatbackend.service.VerifiedTokenCache;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -24,6 +26,7 @@ import java.io.IOException;
 public class JWTFilter extends OncePerRequestFilter {
 
     private final JWTUtil jwtUtil; // JWT 유틸리티 클래스
+    private final VerifiedTokenCache verifiedTokenCache; // 검증된 토큰 클레임 캐시
 
     // 요청을 필터링하여 JWT 토큰을 검증하고, 사용자 인증을 설정
     @Override
@@ -38,9 +41,11 @@ public class JWTFilter extends OncePerRequestFilter {
             return;
         }
 
-        // 토큰 만료 여부 확인, 만료 시 다음 필터로 넘기지 않음
+        // 토큰 서명과 만료 여부를 한 번에 검증하고 클레임 획득, 실패 시 다음 필터로 넘기지 않음
+        // (이미 검증한 토큰이면 캐시된 클레임 사용)
+        JwtClaims claims;
         try {
-            jwtUtil.isExpired(accessToken);
+            claims = verifiedTokenCache.get(accessToken, jwtUtil::parse);
         } catch (ExpiredJwtException e) {
             // access 토큰이 만료된 경우, 클라이언트에게 401 에러 응답
             response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
@@ -65,8 +70,7 @@ public class JWTFilter extends OncePerRequestFilter {
         }
 
         // 토큰이 access인지 확인 (발급 시 페이로드에 명시)
-        String category = jwtUtil.getCategory(accessToken);
-        if (!category.equals("access")) {
+        if (!claims.isAccess()) {
             // 유효하지 않은 access 토큰일 경우, 클라이언트에게 400 에러 응답
             response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
             response.setContentType("application/json");
@@ -75,13 +79,11 @@ public class JWTFilter extends OncePerRequestFilter {
             return;
         }
 
-        // providerId, role 값을 획득
-        String providerId = jwtUtil.getProviderId(accessToken);
-        String role = jwtUtil.getRole(accessToken);
-
+        // userId, providerId, role 값으로 사용자 정보 구성
         UserDTO userDTO = new UserDTO();
-        userDTO.setProviderId(providerId);
-        userDTO.setRole(role);
+        userDTO.setUserId(claims.userId());
+        userDTO.setProviderId(claims.providerId());
+        userDTO.setRole(claims.role());
         CustomOAuth2User customOAuth2User = new CustomOAuth2User(userDTO);
 
         UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(customOAuth2User, null, customOAuth2User.getAuthorities());
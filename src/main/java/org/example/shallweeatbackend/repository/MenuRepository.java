@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,4 +21,10 @@ public interface MenuRepository extends JpaRepository<Menu, Long> {
             "LEFT JOIN FETCH m.menuTags mt " +
             "LEFT JOIN FETCH mt.tag")
     List<Menu> findAllWithTags();
+
+    @Query("SELECT m FROM Menu m " +
+            "LEFT JOIN FETCH m.menuTags mt " +
+            "LEFT JOIN FETCH mt.tag " +
+            "WHERE m.menuId IN :menuIds")
+    List<Menu> findAllWithTagsByMenuIdIn(@Param("menuIds") Collection<Long> menuIds);
 }
@@ -1,5 +1,6 @@
 package org.example.shallweeatbackend.repository;
 
+import org.example.shallweeatbackend.constant.MenuOptionType;
 import org.example.shallweeatbackend.entity.PersonalBoard;
 import org.example.shallweeatbackend.entity.PersonalBoardMenu;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -8,9 +9,10 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 
-public interface PersonalBoardMenuRepository extends JpaRepository<PersonalBoardMenu, Long> {
+public interface PersonalBoardMenuRepository extends JpaRepository<PersonalBoardMenu, Long>, PersonalBoardMenuRepositoryCustom {
     @Query("SELECT pbm FROM PersonalBoardMenu pbm "
             + "JOIN FETCH pbm.menu m "
             + "LEFT JOIN FETCH m.menuTags mt "
@@ -18,6 +20,11 @@ public interface PersonalBoardMenuRepository extends JpaRepository<PersonalBoard
             + "WHERE pbm.personalBoard.personalBoardId = :personalBoardId")
     List<PersonalBoardMenu> findAllByPersonalBoardId(@Param("personalBoardId") Long personalBoardId);
 
+    @Query("SELECT pbm.menu.menuId FROM PersonalBoardMenu pbm "
+            + "WHERE pbm.personalBoard.personalBoardId = :personalBoardId "
+            + "ORDER BY pbm.personalBoardMenuId")
+    List<Long> findMenuIdsByPersonalBoardId(@Param("personalBoardId") Long personalBoardId);
+
     @Query("SELECT CASE WHEN COUNT(pbm) > 0 THEN true ELSE false END " +
             "FROM PersonalBoardMenu pbm " +
             "WHERE pbm.personalBoard.personalBoardId = :personalBoardId AND pbm.menu.menuId = :menuId")
@@ -28,12 +35,20 @@ public interface PersonalBoardMenuRepository extends JpaRepository<PersonalBoard
     @Query("DELETE FROM PersonalBoardMenu pbm WHERE pbm.personalBoard = :personalBoard")
     void deleteAllByPersonalBoard(@Param("personalBoard") PersonalBoard personalBoard);
 
-    @Query("SELECT pbm FROM PersonalBoardMenu pbm "
-            + "JOIN FETCH pbm.menu m "
-            + "LEFT JOIN FETCH m.menuTags mt "
-            + "LEFT JOIN FETCH mt.tag "
-            + "WHERE pbm.personalBoard.personalBoardId = :personalBoardId "
-            + "AND m.categoryOptions LIKE %:category%")
-    List<PersonalBoardMenu> findAllByPersonalBoardIdAndCategory(@Param("personalBoardId") Long personalBoardId, @Param("category") String category);
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM PersonalBoardMenu pbm "
+            + "WHERE pbm.personalBoard.personalBoardId = :personalBoardId AND pbm.menu.menuId IN :menuIds")
+    void deleteAllByPersonalBoardIdAndMenuIdIn(@Param("personalBoardId") Long personalBoardId, @Param("menuIds") Collection<Long> menuIds);
+
+    // 메뉴 옵션 테이블의 (옵션 종류, 옵션 값) 인덱스로 해당 옵션을 가진 메뉴만 찾아 메뉴판 메뉴와 조인
+    @Query("SELECT pbm.menu.menuId FROM PersonalBoardMenu pbm, MenuOption mo "
+            + "WHERE mo.optionType = :optionType AND mo.optionValue = :optionValue "
+            + "AND pbm.menu.menuId = mo.menu.menuId "
+            + "AND pbm.personalBoard.personalBoardId = :personalBoardId "
+            + "ORDER BY pbm.personalBoardMenuId")
+    List<Long> findMenuIdsByPersonalBoardIdAndOption(@Param("personalBoardId") Long personalBoardId,
+                                                     @Param("optionType") MenuOptionType optionType,
+                                                     @Param("optionValue") String optionValue);
 
 }
@@ -0,0 +1,9 @@
+package org.example.shallweeatbackend.repository;
+
+import java.util.Collection;
+
+public interface PersonalBoardMenuRepositoryCustom {
+
+    // 개인 메뉴판에 메뉴들을 JDBC 배치 INSERT로 한 번에 추가
+    void batchInsert(Long personalBoardId, Collection<Long> menuIds);
+}
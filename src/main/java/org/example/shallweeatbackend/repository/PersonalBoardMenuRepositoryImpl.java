@@ -0,0 +1,31 @@
+package org.example.shallweeatbackend.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+// PersonalBoardMenuRepository의 배치 INSERT 구현
+// IDENTITY 키 전략에서는 Hibernate가 INSERT를 배치로 묶지 못하므로 JdbcTemplate으로 실행 (현재 트랜잭션의 커넥션 사용)
+@RequiredArgsConstructor
+public class PersonalBoardMenuRepositoryImpl implements PersonalBoardMenuRepositoryCustom {
+
+    private static final String INSERT_SQL = "INSERT INTO personal_board_menu (personal_board_id, menu_id) VALUES (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void batchInsert(Long personalBoardId, Collection<Long> menuIds) {
+        if (menuIds.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> batchArgs = new ArrayList<>(menuIds.size());
+        for (Long menuId : menuIds) {
+            batchArgs.add(new Object[]{personalBoardId, menuId});
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, batchArgs);
+    }
+}
@@ -3,9 +3,21 @@ package org.example.shallweeatbackend.repository;
 import org.example.shallweeatbackend.entity.PersonalBoard;
 import org.example.shallweeatbackend.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
 public interface PersonalBoardRepository extends JpaRepository<PersonalBoard, Long> {
     List<PersonalBoard> findByUser(User user);
+
+    // 개인 메뉴판 내용 버전 조회 (메뉴판이 없으면 null)
+    @Query("SELECT pb.contentVersion FROM PersonalBoard pb WHERE pb.personalBoardId = :personalBoardId")
+    Long findContentVersionByPersonalBoardId(@Param("personalBoardId") Long personalBoardId);
+
+    // 개인 메뉴판 내용 버전 1 증가
+    @Modifying
+    @Query("UPDATE PersonalBoard pb SET pb.contentVersion = pb.contentVersion + 1 WHERE pb.personalBoardId = :personalBoardId")
+    int incrementContentVersion(@Param("personalBoardId") Long personalBoardId);
 }
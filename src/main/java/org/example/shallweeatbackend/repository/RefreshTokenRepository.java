@@ -1,16 +1,38 @@
 package org.example.shallweeatbackend.repository;
 
 import org.example.shallweeatbackend.entity.RefreshToken;
-import org.example.shallweeatbackend.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
-    Boolean existsByRefreshToken(String refreshToken);
+    Boolean existsByTokenHash(String tokenHash);
+
+    // 토큰 다이제스트로 한 번의 DELETE (삭제한 행 수 반환, 0이면 이미 사용되었거나 없는 토큰)
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM RefreshToken r WHERE r.tokenHash = :tokenHash")
+    int deleteByTokenHash(@Param("tokenHash") String tokenHash);
 
+    // 사용자의 refresh 토큰을 엔티티 조회 없이 한 번의 DELETE로 삭제
     @Transactional
-    void deleteByRefreshToken(String refreshToken);
+    @Modifying
+    @Query("DELETE FROM RefreshToken r WHERE r.user.userId = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+
+    // 만료된 refresh 토큰 ID를 오래된 것부터 조회 (만료 일시 인덱스 사용, 한 번에 지울 만큼만)
+    @Query("SELECT r.refreshTokenId FROM RefreshToken r WHERE r.expirationTime < :now ORDER BY r.expirationTime")
+    List<Long> findExpiredIds(@Param("now") LocalDateTime now, Pageable pageable);
 
     @Transactional
-    void deleteByUser(User user);
-}
\ No newline at end of file
+    @Modifying
+    @Query("DELETE FROM RefreshToken r WHERE r.refreshTokenId IN :refreshTokenIds")
+    int deleteAllByRefreshTokenIdIn(@Param("refreshTokenIds") Collection<Long> refreshTokenIds);
+}
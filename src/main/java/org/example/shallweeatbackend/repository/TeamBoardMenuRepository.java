@@ -5,22 +5,56 @@ import org.example.shallweeatbackend.entity.TeamBoardMenu;
 import org.example.shallweeatbackend.entity.Menu;
 import org.example.shallweeatbackend.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-public interface TeamBoardMenuRepository extends JpaRepository<TeamBoardMenu, Long> {
+public interface TeamBoardMenuRepository extends JpaRepository<TeamBoardMenu, Long>, TeamBoardMenuRepositoryCustom {
 
 
     boolean existsByTeamBoardAndUser(TeamBoard teamBoard, User user);
 
     void deleteByTeamBoard(TeamBoard teamBoard);
 
+    // 팀 메뉴판에 담긴 메뉴를 팀 메뉴판과 함께 조회 (메뉴 정보는 메뉴 카탈로그에서 조회하므로 메뉴 ID만 사용)
+    @Query("SELECT tbm FROM TeamBoardMenu tbm "
+            + "JOIN FETCH tbm.teamBoard "
+            + "WHERE tbm.teamBoard.teamBoardId = :teamBoardId "
+            + "ORDER BY tbm.teamBoardMenuId ASC")
+    List<TeamBoardMenu> findAllWithTeamBoardByTeamBoardId(@Param("teamBoardId") Long teamBoardId);
+
+    // 팀 메뉴판에서 사용자가 추가한 메뉴를 팀 메뉴판과 함께 조회
+    @Query("SELECT tbm FROM TeamBoardMenu tbm "
+            + "JOIN FETCH tbm.teamBoard "
+            + "WHERE tbm.teamBoard.teamBoardId = :teamBoardId AND tbm.user.userId = :userId "
+            + "ORDER BY tbm.teamBoardMenuId ASC")
+    List<TeamBoardMenu> findAllWithTeamBoardByTeamBoardIdAndUserId(@Param("teamBoardId") Long teamBoardId, @Param("userId") Long userId);
+
+    // 팀 메뉴판에서 사용자가 추가한 메뉴 ID 목록 조회
+    @Query("SELECT tbm.menu.menuId FROM TeamBoardMenu tbm "
+            + "WHERE tbm.teamBoard.teamBoardId = :teamBoardId AND tbm.user.userId = :userId")
+    List<Long> findMenuIdsByTeamBoardIdAndUserId(@Param("teamBoardId") Long teamBoardId, @Param("userId") Long userId);
+
+    // 팀 메뉴판에서 사용자가 추가한 메뉴 중 지정한 메뉴들을 한 번에 삭제
+    @Modifying
+    @Query("DELETE FROM TeamBoardMenu tbm "
+            + "WHERE tbm.teamBoard.teamBoardId = :teamBoardId AND tbm.user.userId = :userId AND tbm.menu.menuId IN :menuIds")
+    void deleteAllByTeamBoardIdAndUserIdAndMenuIdIn(@Param("teamBoardId") Long teamBoardId, @Param("userId") Long userId,
+                                                    @Param("menuIds") Collection<Long> menuIds);
+
     @Query("SELECT tbm FROM TeamBoardMenu tbm WHERE tbm.teamBoard = :teamBoard AND tbm.menu = :menu ORDER BY tbm.teamBoardMenuId ASC")
     List<TeamBoardMenu> findByTeamBoardAndMenu(@Param("teamBoard") TeamBoard teamBoard, @Param("menu") Menu menu);
 
+    // 팀 보드에서 메뉴별로 teamBoardMenuId가 가장 낮은 항목의 ID 조회 ([메뉴 ID, teamBoardMenuId] 목록)
+    @Query("SELECT tbm.menu.menuId, MIN(tbm.teamBoardMenuId) FROM TeamBoardMenu tbm "
+            + "WHERE tbm.teamBoard.teamBoardId = :teamBoardId AND tbm.menu.menuId IN :menuIds "
+            + "GROUP BY tbm.menu.menuId")
+    List<Object[]> findLowestTeamBoardMenuIdsByMenuIdIn(@Param("teamBoardId") Long teamBoardId, @Param("menuIds") Collection<Long> menuIds);
+
     @Query("SELECT COUNT(DISTINCT tbm.user) FROM TeamBoardMenu tbm WHERE tbm.teamBoard = :teamBoard")
     int countDistinctUsersByTeamBoard(@Param("teamBoard") TeamBoard teamBoard);
 }
\ No newline at end of file
@@ -0,0 +1,9 @@
+package org.example.shallweeatbackend.repository;
+
+import java.util.Collection;
+
+public interface TeamBoardMenuRepositoryCustom {
+
+    // 팀 메뉴판에 사용자가 고른 메뉴들을 JDBC 배치 INSERT로 한 번에 추가
+    void batchInsert(Long teamBoardId, Long userId, Collection<Long> menuIds);
+}
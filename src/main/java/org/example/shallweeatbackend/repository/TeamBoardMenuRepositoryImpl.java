@@ -0,0 +1,30 @@
+package org.example.shallweeatbackend.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+// TeamBoardMenuRepository의 배치 INSERT 구현 (PersonalBoardMenuRepositoryImpl과 같은 이유로 JDBC 배치 사용)
+@RequiredArgsConstructor
+public class TeamBoardMenuRepositoryImpl implements TeamBoardMenuRepositoryCustom {
+
+    private static final String INSERT_SQL = "INSERT INTO teamboardmenu (teamboard_id, menu_id, user_id) VALUES (?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void batchInsert(Long teamBoardId, Long userId, Collection<Long> menuIds) {
+        if (menuIds.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> batchArgs = new ArrayList<>(menuIds.size());
+        for (Long menuId : menuIds) {
+            batchArgs.add(new Object[]{teamBoardId, menuId, userId});
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, batchArgs);
+    }
+}
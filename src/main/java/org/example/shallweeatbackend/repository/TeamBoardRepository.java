@@ -1,12 +1,16 @@
 package org.example.shallweeatbackend.repository;
 
+import org.example.shallweeatbackend.dto.TeamBoardListProjection;
+import org.example.shallweeatbackend.dto.VoteHistoryBoardDTO;
 import org.example.shallweeatbackend.entity.TeamBoard;
 import org.example.shallweeatbackend.entity.TeamMember;
 import org.example.shallweeatbackend.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface TeamBoardRepository extends JpaRepository<TeamBoard, Long> {
@@ -19,4 +23,78 @@ public interface TeamBoardRepository extends JpaRepository<TeamBoard, Long> {
     @Query("SELECT tb.teamMembersNum FROM TeamBoard tb WHERE tb.teamBoardId = :teamBoardId")
     Integer findTeamMembersNumByTeamBoardId(@Param("teamBoardId") Long teamBoardId);
 
+    // 팀 메뉴판 내용 버전 조회 (팀 메뉴판이 없으면 null)
+    @Query("SELECT tb.contentVersion FROM TeamBoard tb WHERE tb.teamBoardId = :teamBoardId")
+    Long findContentVersionByTeamBoardId(@Param("teamBoardId") Long teamBoardId);
+
+    // 팀 메뉴판 내용 버전 1 증가
+    @Modifying
+    @Query("UPDATE TeamBoard tb SET tb.contentVersion = tb.contentVersion + 1 WHERE tb.teamBoardId = :teamBoardId")
+    int incrementContentVersion(@Param("teamBoardId") Long teamBoardId);
+
+    // 정원이 남아 있고 사용자가 생성자가 아닐 때만 팀원 수 1 증가 (변경된 행 수가 0이면 팀원 추가 불가)
+    @Modifying
+    @Query("UPDATE TeamBoard tb SET tb.memberCount = tb.memberCount + 1 "
+            + "WHERE tb.teamBoardId = :teamBoardId AND tb.memberCount < tb.teamMembersNum - 1 AND tb.user.userId <> :userId")
+    int incrementMemberCountIfAvailable(@Param("teamBoardId") Long teamBoardId, @Param("userId") Long userId);
+
+    // 사용자가 팀 메뉴판의 생성자이거나 팀원인지 확인
+    @Query("SELECT CASE WHEN COUNT(tb) > 0 THEN true ELSE false END FROM TeamBoard tb "
+            + "WHERE tb.teamBoardId = :teamBoardId "
+            + "AND (tb.user.userId = :userId "
+            + "OR EXISTS (SELECT 1 FROM TeamMember tm WHERE tm.teamBoard = tb AND tm.user.userId = :userId))")
+    boolean existsCreatorOrMember(@Param("teamBoardId") Long teamBoardId, @Param("userId") Long userId);
+
+    // 팀 메뉴판 목록 화면에 필요한 메뉴판 정보와 사용자별 상태 (메뉴 추가 여부, 투표 여부, 메뉴를 추가한 사용자 수)
+    String TEAM_BOARD_LIST_SELECT = "SELECT tb.teamBoardId AS teamBoardId, tb.teamBoardName AS teamBoardName, tb.teamName AS teamName, "
+            + "tb.teamMembersNum AS teamMembersNum, tb.createdDate AS createdDate, tb.modifiedDate AS modifiedDate, "
+            + "CASE WHEN EXISTS (SELECT 1 FROM TeamBoardMenu tbm WHERE tbm.teamBoard = tb AND tbm.user.userId = :userId) "
+            + "THEN true ELSE false END AS hasUserAddedMenu, "
+            + "CASE WHEN EXISTS (SELECT 1 FROM Vote v WHERE v.teamBoard = tb AND v.user.userId = :userId) "
+            + "THEN true ELSE false END AS voted, "
+            + "(SELECT COUNT(DISTINCT added.user.userId) FROM TeamBoardMenu added WHERE added.teamBoard = tb) AS menuAddedUserCount "
+            + "FROM TeamBoard tb ";
+
+    // 사용자가 생성했거나 참여한 팀 메뉴판 목록을 한 번에 조회 (teamBoardId 내림차순)
+    @Query(TEAM_BOARD_LIST_SELECT
+            + "WHERE tb.user.userId = :userId "
+            + "OR EXISTS (SELECT 1 FROM TeamMember tm WHERE tm.teamBoard = tb AND tm.user.userId = :userId) "
+            + "ORDER BY tb.teamBoardId DESC")
+    List<TeamBoardListProjection> findTeamBoardListByUserId(@Param("userId") Long userId);
+
+    // 지정한 팀 메뉴판들의 목록 정보 조회 (teamBoardId 내림차순)
+    @Query(TEAM_BOARD_LIST_SELECT
+            + "WHERE tb.teamBoardId IN :teamBoardIds "
+            + "ORDER BY tb.teamBoardId DESC")
+    List<TeamBoardListProjection> findTeamBoardListByTeamBoardIdIn(@Param("userId") Long userId, @Param("teamBoardIds") Collection<Long> teamBoardIds);
+
+    // 사용자가 생성했거나 참여한 팀 메뉴판 ID를 teamBoardId 내림차순으로 limit개 조회 (teamBoardId < after)
+    @Query(value = "SELECT boards.teamboard_id FROM ("
+            + "SELECT tb.teamboard_id FROM teamboard tb WHERE tb.user_id = :userId AND tb.teamboard_id < :after "
+            + "UNION "
+            + "SELECT tm.teamboard_id FROM team_member tm WHERE tm.user_id = :userId AND tm.teamboard_id < :after"
+            + ") boards "
+            + "ORDER BY boards.teamboard_id DESC "
+            + "LIMIT :limit", nativeQuery = true)
+    List<Long> findTeamBoardIdsByUserId(@Param("userId") Long userId, @Param("after") Long after, @Param("limit") int limit);
+
+    // 사용자가 생성했거나 참여한 팀 메뉴판 중 투표가 있는 메뉴판 ID를 teamBoardId 내림차순으로 limit개 조회 (teamBoardId < after)
+    @Query(value = "SELECT boards.teamboard_id FROM ("
+            + "SELECT tb.teamboard_id FROM teamboard tb WHERE tb.user_id = :userId AND tb.teamboard_id < :after "
+            + "UNION "
+            + "SELECT tm.teamboard_id FROM team_member tm WHERE tm.user_id = :userId AND tm.teamboard_id < :after"
+            + ") boards "
+            + "WHERE EXISTS (SELECT 1 FROM vote_tally vt WHERE vt.teamboard_id = boards.teamboard_id AND vt.vote_count > 0) "
+            + "ORDER BY boards.teamboard_id DESC "
+            + "LIMIT :limit", nativeQuery = true)
+    List<Long> findVotedBoardIdsByUserId(@Param("userId") Long userId, @Param("after") Long after, @Param("limit") int limit);
+
+    // 지정한 팀 메뉴판들의 이름과 투표일 조회 (teamBoardId 내림차순)
+    @Query("SELECT new org.example.shallweeatbackend.dto.VoteHistoryBoardDTO(tb.teamBoardId, tb.teamName, "
+            + "(SELECT MIN(v.createdDate) FROM Vote v WHERE v.teamBoard = tb)) "
+            + "FROM TeamBoard tb "
+            + "WHERE tb.teamBoardId IN :teamBoardIds "
+            + "ORDER BY tb.teamBoardId DESC")
+    List<VoteHistoryBoardDTO> findVoteHistoryBoardsByTeamBoardIdIn(@Param("teamBoardIds") Collection<Long> teamBoardIds);
+
 }
@@ -2,7 +2,13 @@ package org.example.shallweeatbackend.repository;
 
 import org.example.shallweeatbackend.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     User findByProviderId(String providerId);
+
+    // providerId로 사용자 ID만 조회 (사용자가 없으면 null)
+    @Query("SELECT u.userId FROM User u WHERE u.providerId = :providerId")
+    Long findUserIdByProviderId(@Param("providerId") String providerId);
 }
@@ -0,0 +1,7 @@
+package org.example.shallweeatbackend.repository;
+
+import org.example.shallweeatbackend.entity.UserVoteCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface UserVoteCountRepository extends JpaRepository<UserVoteCount, Long>, UserVoteCountRepositoryCustom {
+}
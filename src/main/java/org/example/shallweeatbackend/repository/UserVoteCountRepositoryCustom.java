@@ -0,0 +1,10 @@
+package org.example.shallweeatbackend.repository;
+
+public interface UserVoteCountRepositoryCustom {
+
+    // 사용자의 투표 수를 count만큼 늘림 (늘린 뒤 maxVotes를 넘으면 늘리지 않고 false 반환)
+    boolean reserveVotes(Long teamBoardId, Long userId, int count, int maxVotes);
+
+    // 사용자의 투표 수를 count만큼 줄임
+    void releaseVotes(Long teamBoardId, Long userId, int count);
+}
@@ -0,0 +1,54 @@
+package org.example.shallweeatbackend.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * UserVoteCountRepository의 투표 수 증감 구현입니다.
+ * 투표 수를 읽어서 확인하지 않고 제한을 조건으로 건 UPDATE 한 번으로 늘리므로,
+ * 같은 사용자의 요청이 동시에 들어와도 행 잠금으로 순서대로 처리되어 제한을 넘지 않습니다.
+ * 투표 수 행이 아직 없으면 0으로 INSERT한 뒤(다른 트랜잭션이 먼저 INSERT했다면 무시) 다시 UPDATE합니다.
+ */
+@RequiredArgsConstructor
+public class UserVoteCountRepositoryImpl implements UserVoteCountRepositoryCustom {
+
+    private static final String RESERVE_SQL = "UPDATE user_vote_count SET vote_count = vote_count + ? "
+            + "WHERE teamboard_id = ? AND user_id = ? AND vote_count + ? <= ?";
+    private static final String RELEASE_SQL = "UPDATE user_vote_count SET vote_count = vote_count - ? "
+            + "WHERE teamboard_id = ? AND user_id = ? AND vote_count >= ?";
+    private static final String INSERT_SQL = "INSERT INTO user_vote_count (teamboard_id, user_id, vote_count) VALUES (?, ?, 0)";
+    private static final String EXISTS_SQL = "SELECT COUNT(*) FROM user_vote_count WHERE teamboard_id = ? AND user_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public boolean reserveVotes(Long teamBoardId, Long userId, int count, int maxVotes) {
+        if (count <= 0) {
+            return true;
+        }
+        if (jdbcTemplate.update(RESERVE_SQL, count, teamBoardId, userId, count, maxVotes) > 0) {
+            return true;
+        }
+
+        // 제한에 걸린 것인지, 투표 수 행이 없는 것인지 확인
+        Long rows = jdbcTemplate.queryForObject(EXISTS_SQL, Long.class, teamBoardId, userId);
+        if (rows != null && rows > 0) {
+            return false;
+        }
+
+        try {
+            jdbcTemplate.update(INSERT_SQL, teamBoardId, userId);
+        } catch (DuplicateKeyException e) {
+            // 다른 트랜잭션이 먼저 생성함
+        }
+        return jdbcTemplate.update(RESERVE_SQL, count, teamBoardId, userId, count, maxVotes) > 0;
+    }
+
+    @Override
+    public void releaseVotes(Long teamBoardId, Long userId, int count) {
+        if (count > 0) {
+            jdbcTemplate.update(RELEASE_SQL, count, teamBoardId, userId, count);
+        }
+    }
+}
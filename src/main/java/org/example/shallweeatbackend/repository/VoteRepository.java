@@ -4,16 +4,22 @@ import org.example.shallweeatbackend.entity.TeamBoard;
 import org.example.shallweeatbackend.entity.User;
 import org.example.shallweeatbackend.entity.Vote;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
-public interface VoteRepository extends JpaRepository<Vote, Long> {
+public interface VoteRepository extends JpaRepository<Vote, Long>, VoteRepositoryCustom {
     List<Vote> findByUserUserId(Long userId);
     // 특정 팀 보드의 모든 투표 조회
     List<Vote> findByTeamBoardTeamBoardId(Long teamBoardId);
 
+    // 특정 팀 보드의 첫 번째 투표 조회
+    Optional<Vote> findFirstByTeamBoardTeamBoardIdOrderByVoteIdAsc(Long teamBoardId);
+
     // 사용자가 특정 팀 보드에서 투표한 수를 카운트
     long countByUserUserIdAndTeamBoardTeamBoardId(Long userId, Long teamBoardId);
 
@@ -23,9 +29,23 @@ public interface VoteRepository extends JpaRepository<Vote, Long> {
     // 특정 팀 보드에서 사용자의 모든 투표 조회
     List<Vote> findByUserUserIdAndTeamBoardTeamBoardId(Long userId, Long teamBoardId);
 
+    // 특정 팀 보드에서 사용자의 모든 투표를 메뉴, 팀 보드 메뉴와 함께 조회
+    @Query("SELECT v FROM Vote v JOIN FETCH v.menu JOIN FETCH v.teamBoardMenu "
+            + "WHERE v.user.userId = :userId AND v.teamBoard.teamBoardId = :teamBoardId ORDER BY v.voteId")
+    List<Vote> findAllWithMenuByUserIdAndTeamBoardId(@Param("userId") Long userId, @Param("teamBoardId") Long teamBoardId);
+
+    // 지정한 투표들을 한 번에 삭제
+    @Modifying
+    @Query("DELETE FROM Vote v WHERE v.voteId IN :voteIds")
+    void deleteAllByVoteIdIn(@Param("voteIds") Collection<Long> voteIds);
+
     // 팀 보드에 대해 사용자가 투표했는지 여부 확인
     boolean existsByTeamBoardAndUser(TeamBoard teamBoard, User user);
 
+    // 특정 팀 보드에서 투표에 참여한 사용자 ID 목록 조회
+    @Query("SELECT DISTINCT v.user.userId FROM Vote v WHERE v.teamBoard.teamBoardId = :teamBoardId")
+    List<Long> findVoterIdsByTeamBoardId(@Param("teamBoardId") Long teamBoardId);
+
     // 특정 팀 보드에서 투표에 참여한 고유한 사용자 수 조회
     @Query("SELECT COUNT(DISTINCT v.user.userId) FROM Vote v WHERE v.teamBoard.teamBoardId = :teamBoardId")
     Long countDistinctVotedUsersByTeamBoardId(@Param("teamBoardId") Long teamBoardId);
@@ -0,0 +1,11 @@
+package org.example.shallweeatbackend.repository;
+
+import org.example.shallweeatbackend.entity.Vote;
+
+import java.util.List;
+
+public interface VoteRepositoryCustom {
+
+    // 투표들을 JDBC 배치 INSERT로 한 번에 저장하고 생성된 ID와 생성 날짜를 각 Vote에 채움
+    void batchInsert(List<Vote> votes);
+}
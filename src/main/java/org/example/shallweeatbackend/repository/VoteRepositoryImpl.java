@@ -0,0 +1,56 @@
+package org.example.shallweeatbackend.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.example.shallweeatbackend.entity.Vote;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// VoteRepository의 배치 INSERT 구현 (PersonalBoardMenuRepositoryImpl과 같은 이유로 JDBC 배치 사용)
+// 생성된 키를 받아 응답에 필요한 투표 ID를 채움
+@RequiredArgsConstructor
+public class VoteRepositoryImpl implements VoteRepositoryCustom {
+
+    private static final String INSERT_SQL = "INSERT INTO vote (teamboard_id, user_id, teamboardmenu_id, menu_id, created_date) VALUES (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void batchInsert(List<Vote> votes) {
+        if (votes.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime createdDate = LocalDateTime.now();
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS)) {
+                for (Vote vote : votes) {
+                    statement.setLong(1, vote.getTeamBoard().getTeamBoardId());
+                    statement.setLong(2, vote.getUser().getUserId());
+                    statement.setLong(3, vote.getTeamBoardMenu().getTeamBoardMenuId());
+                    statement.setLong(4, vote.getMenu().getMenuId());
+                    statement.setTimestamp(5, Timestamp.valueOf(createdDate));
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+
+                // 생성된 키는 INSERT 순서대로 반환됨
+                try (ResultSet generatedKeys = statement.getGeneratedKeys()) {
+                    for (Vote vote : votes) {
+                        if (generatedKeys.next()) {
+                            vote.setVoteId(generatedKeys.getLong(1));
+                        }
+                        vote.setCreatedDate(createdDate);
+                    }
+                }
+            }
+            return null;
+        });
+    }
+}
@@ -0,0 +1,28 @@
+package org.example.shallweeatbackend.repository;
+
+import org.example.shallweeatbackend.dto.VoteHistoryTallyDTO;
+import org.example.shallweeatbackend.dto.VoteTallyDTO;
+import org.example.shallweeatbackend.entity.VoteTally;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface VoteTallyRepository extends JpaRepository<VoteTally, Long>, VoteTallyRepositoryCustom {
+
+    // 팀 메뉴판의 메뉴별 투표 수 조회 (득표수 내림차순, 득표수가 같으면 menuId 오름차순)
+    @Query("SELECT new org.example.shallweeatbackend.dto.VoteTallyDTO(m.menuId, m.menuName, vt.voteCount) "
+            + "FROM VoteTally vt JOIN vt.menu m "
+            + "WHERE vt.teamBoard.teamBoardId = :teamBoardId AND vt.voteCount > 0 "
+            + "ORDER BY vt.voteCount DESC, m.menuId ASC")
+    List<VoteTallyDTO> findTalliesByTeamBoardId(@Param("teamBoardId") Long teamBoardId);
+
+    // 여러 팀 메뉴판의 메뉴별 투표 수 조회 (팀 메뉴판별로 득표수 내림차순, 득표수가 같으면 menuId 오름차순)
+    @Query("SELECT new org.example.shallweeatbackend.dto.VoteHistoryTallyDTO(vt.teamBoard.teamBoardId, m.menuId, m.menuName, vt.voteCount) "
+            + "FROM VoteTally vt JOIN vt.menu m "
+            + "WHERE vt.teamBoard.teamBoardId IN :teamBoardIds AND vt.voteCount > 0 "
+            + "ORDER BY vt.teamBoard.teamBoardId DESC, vt.voteCount DESC, m.menuId ASC")
+    List<VoteHistoryTallyDTO> findTalliesByTeamBoardIdIn(@Param("teamBoardIds") Collection<Long> teamBoardIds);
+}
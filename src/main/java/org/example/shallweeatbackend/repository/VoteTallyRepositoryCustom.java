@@ -0,0 +1,7 @@
+package org.example.shallweeatbackend.repository;
+
+public interface VoteTallyRepositoryCustom {
+
+    // 팀 메뉴판의 메뉴별 투표 수를 delta만큼 증감 (집계 행이 없으면 생성)
+    void adjustVoteCount(Long teamBoardId, Long menuId, long delta);
+}
@@ -0,0 +1,35 @@
+package org.example.shallweeatbackend.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * VoteTallyRepository의 투표 수 증감 구현입니다.
+ * 집계 행을 읽어서 고쳐 쓰지 않고 UPDATE 한 번으로 증감하므로 동시에 투표해도 갱신이 유실되지 않습니다.
+ * 집계 행이 아직 없으면 INSERT하고, 그 사이 다른 트랜잭션이 먼저 INSERT했다면 다시 UPDATE합니다.
+ */
+@RequiredArgsConstructor
+public class VoteTallyRepositoryImpl implements VoteTallyRepositoryCustom {
+
+    private static final String UPDATE_SQL = "UPDATE vote_tally SET vote_count = vote_count + ? WHERE teamboard_id = ? AND menu_id = ?";
+    private static final String INSERT_SQL = "INSERT INTO vote_tally (teamboard_id, menu_id, vote_count) VALUES (?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void adjustVoteCount(Long teamBoardId, Long menuId, long delta) {
+        if (delta == 0 || jdbcTemplate.update(UPDATE_SQL, delta, teamBoardId, menuId) > 0) {
+            return;
+        }
+        if (delta < 0) {
+            return; // 감소할 집계 행이 없음
+        }
+
+        try {
+            jdbcTemplate.update(INSERT_SQL, teamBoardId, menuId, delta);
+        } catch (DuplicateKeyException e) {
+            jdbcTemplate.update(UPDATE_SQL, delta, teamBoardId, menuId);
+        }
+    }
+}
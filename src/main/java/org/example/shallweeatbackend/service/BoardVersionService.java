@@ -0,0 +1,49 @@
+package org.example.shallweeatbackend.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.shallweeatbackend.repository.PersonalBoardRepository;
+import org.example.shallweeatbackend.repository.TeamBoardRepository;
+import org.springframework.stereotype.Service;
+
+/**
+ * 팀 메뉴판/개인 메뉴판의 내용 버전을 관리하고 조회 API의 ETag를 만드는 서비스입니다.
+ * 메뉴판에 쓰기가 일어나면 같은 트랜잭션에서 버전을 1 증가시키고,
+ * 조회 API는 메뉴 목록이나 투표를 읽기 전에 버전만 조회해 If-None-Match와 같으면 304로 응답합니다.
+ * 메뉴 이름/이미지는 메뉴 카탈로그에서 가져오므로 ETag에는 카탈로그 버전도 포함합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class BoardVersionService {
+
+    private final TeamBoardRepository teamBoardRepository;
+    private final PersonalBoardRepository personalBoardRepository;
+    private final MenuCatalogService menuCatalogService;
+
+    // 팀 메뉴판 내용이 바뀌면 버전 증가 (호출한 쪽의 트랜잭션에서 실행)
+    public void teamBoardChanged(Long teamBoardId) {
+        teamBoardRepository.incrementContentVersion(teamBoardId);
+    }
+
+    // 개인 메뉴판 내용이 바뀌면 버전 증가 (호출한 쪽의 트랜잭션에서 실행)
+    public void personalBoardChanged(Long personalBoardId) {
+        personalBoardRepository.incrementContentVersion(personalBoardId);
+    }
+
+    // 팀 메뉴판 조회 API의 ETag (팀 메뉴판이 없으면 null)
+    public String getTeamBoardETag(Long teamBoardId) {
+        return eTag("tb", teamBoardId, teamBoardRepository.findContentVersionByTeamBoardId(teamBoardId));
+    }
+
+    // 개인 메뉴판 조회 API의 ETag (개인 메뉴판이 없으면 null)
+    public String getPersonalBoardETag(Long personalBoardId) {
+        return eTag("pb", personalBoardId, personalBoardRepository.findContentVersionByPersonalBoardId(personalBoardId));
+    }
+
+    private String eTag(String prefix, Long boardId, Long contentVersion) {
+        if (contentVersion == null) {
+            return null;
+        }
+        long catalogVersion = menuCatalogService.getCatalog().getVersion();
+        return "\"" + prefix + "-" + boardId + "-" + contentVersion + "-" + catalogVersion + "\"";
+    }
+}
@@ -0,0 +1,88 @@
+package org.example.shallweeatbackend.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.shallweeatbackend.dto.CustomOAuth2User;
+import org.example.shallweeatbackend.entity.User;
+import org.example.shallweeatbackend.exception.UserNotFoundException;
+import org.example.shallweeatbackend.repository.UserRepository;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+/**
+ * 요청한 사용자를 찾는 서비스입니다.
+ * access 토큰에 담긴 userId 클레임을 우선 사용해 사용자 테이블을 조회하지 않고,
+ * 외래 키로만 쓰는 경우에는 getReferenceById 프록시를 반환합니다.
+ * userId 클레임이 없는 이전 토큰이나 인증 정보와 다른 providerId는 providerId로 조회하며,
+ * 이 조회와 이름/이메일 같은 사용자 정보 조회는 UserLookupCache를 거칩니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class CurrentUserService {
+
+    private final UserRepository userRepository;
+    private final UserLookupCache userLookupCache;
+
+    // 사용자 ID 조회 (사용자가 없으면 null)
+    public Long findUserId(String providerId) {
+        Long userId = userIdFromToken(providerId);
+        if (userId != null) {
+            return userId;
+        }
+        UserLookupCache.Profile profile = findProfile(providerId);
+        return profile != null ? profile.userId() : null;
+    }
+
+    // 사용자 ID 조회 (사용자가 없으면 UserNotFoundException)
+    public Long getUserId(String providerId) {
+        Long userId = findUserId(providerId);
+        if (userId == null) {
+            throw new UserNotFoundException("사용자를 찾을 수 없습니다.");
+        }
+        return userId;
+    }
+
+    // 이름/이메일 등 사용자 정보 조회 (캐시 사용, 사용자가 없으면 null)
+    public UserLookupCache.Profile findProfile(String providerId) {
+        return userLookupCache.get(providerId, userRepository::findByProviderId);
+    }
+
+    // 이름/이메일 등 사용자 정보 조회 (캐시 사용, 사용자가 없으면 UserNotFoundException)
+    public UserLookupCache.Profile getProfile(String providerId) {
+        UserLookupCache.Profile profile = findProfile(providerId);
+        if (profile == null) {
+            throw new UserNotFoundException("사용자를 찾을 수 없습니다.");
+        }
+        return profile;
+    }
+
+    // 외래 키로만 사용할 사용자 프록시 (사용자 테이블을 조회하지 않음)
+    public User getReference(String providerId) {
+        return getReference(getUserId(providerId));
+    }
+
+    // 이미 확인한 사용자 ID의 프록시
+    public User getReference(Long userId) {
+        return userRepository.getReferenceById(userId);
+    }
+
+    // 엔티티의 사용자 정보를 읽어야 하는 경우의 사용자 엔티티 (userId가 있으면 기본 키로 조회)
+    public User getUser(String providerId) {
+        Long userId = userIdFromToken(providerId);
+        User user = userId != null ? userRepository.findById(userId).orElse(null) : userRepository.findByProviderId(providerId);
+        if (user == null) {
+            throw new UserNotFoundException("사용자를 찾을 수 없습니다.");
+        }
+        return user;
+    }
+
+    // 현재 인증 정보가 같은 providerId의 사용자이면 토큰의 userId 반환
+    private Long userIdFromToken(String providerId) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof CustomOAuth2User principal
+                && principal.getUserId() != null && providerId != null && providerId.equals(principal.getProviderId())) {
+            return principal.getUserId();
+        }
+        return null;
+    }
+}
@@ -14,6 +14,8 @@ import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
 import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.stereotype.Service;
 
+import java.util.Objects;
+
 /**
  * 사용자의 OAuth2 인증 서비스를 커스터마이즈하는 클래스입니다.
  */
@@ -23,6 +25,7 @@ import org.springframework.stereotype.Service;
 public class CustomOAuth2UserService extends DefaultOAuth2UserService {
 
     private final UserRepository userRepository;
+    private final UserLookupCache userLookupCache;
 
     @Override
     public OAuth2User loadUser(OAuth2UserRequest userRequest) throws OAuth2AuthenticationException {
@@ -63,6 +66,7 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
 
             // 새로운 사용자 정보를 UserDTO로 변환하여 반환
             UserDTO userDTO = new UserDTO();
+            userDTO.setUserId(user.getUserId());
             userDTO.setProviderId(providerId);
             userDTO.setName(oAuth2Response.getName());
             userDTO.setEmail(oAuth2Response.getEmail());
@@ -72,14 +76,22 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
             return new CustomOAuth2User(userDTO);
         } else {
             // 이미 DB에 저장되어 있는 경우 데이터 업데이트
+            boolean profileChanged = !Objects.equals(existData.getEmail(), oAuth2Response.getEmail())
+                    || !Objects.equals(existData.getName(), oAuth2Response.getName());
             existData.setEmail(oAuth2Response.getEmail());
             existData.setName(oAuth2Response.getName());
 
             // 변경된 사용자 정보 DB에 저장
             userRepository.save(existData);
 
+            // 이름/이메일이 바뀌었으면 캐시된 사용자 정보 비우기
+            if (profileChanged) {
+                userLookupCache.invalidate(providerId);
+            }
+
             // 기존 사용자 정보를 UserDTO로 변환하여 반환
             UserDTO userDTO = new UserDTO();
+            userDTO.setUserId(existData.getUserId());
             userDTO.setProviderId(existData.getProviderId());
             userDTO.setName(oAuth2Response.getName());
             userDTO.setRole(existData.getRole());
@@ -0,0 +1,85 @@
+package org.example.shallweeatbackend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.example.shallweeatbackend.dto.CategoryMenuDTO;
+import org.example.shallweeatbackend.dto.RecommendOptionsDTO;
+import org.example.shallweeatbackend.event.MenuCatalogReloadedEvent;
+import org.example.shallweeatbackend.util.MenuBitsetIndex;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * 비회원 메뉴 추천 결과 캐시입니다.
+ * 추천 옵션을 정규화(정렬, 중복 제거, ALL 포함 시 ALL 하나로 축약)한 조합을 키로 사용하고,
+ * 최대 크기를 넘으면 오래 사용되지 않은 항목부터 제거합니다.
+ * 메뉴 카탈로그가 새 버전으로 교체되면 전체 캐시를 비웁니다.
+ * 적중/미적중/제거 수는 cache.gets, cache.evictions 등 guestRecommend 이름의 메트릭으로 노출됩니다.
+ */
+@Component
+public class GuestRecommendCache {
+
+    private final Cache<Key, List<CategoryMenuDTO>> cache;
+
+    public GuestRecommendCache(MeterRegistry meterRegistry,
+                               @Value("${recommend.guest-cache.max-size:1000}") long maxSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "guestRecommend");
+    }
+
+    // 정규화된 옵션 조합의 추천 결과 조회 (없으면 정규화된 옵션으로 계산 후 저장)
+    public List<CategoryMenuDTO> get(long catalogVersion, RecommendOptionsDTO options,
+                                     Function<RecommendOptionsDTO, List<CategoryMenuDTO>> loader) {
+        RecommendOptionsDTO normalizedOptions = normalize(options);
+        Key key = new Key(catalogVersion,
+                normalizedOptions.getTasteOptions(),
+                normalizedOptions.getCarbOptions(),
+                normalizedOptions.getWeatherOptions(),
+                normalizedOptions.getCategoryOptions());
+        return cache.get(key, k -> List.copyOf(loader.apply(normalizedOptions)));
+    }
+
+    // 메뉴 카탈로그가 교체되면 캐시 비우기
+    @EventListener
+    public void onMenuCatalogReloaded(MenuCatalogReloadedEvent event) {
+        cache.invalidateAll();
+    }
+
+    // 추천 옵션 정규화
+    public static RecommendOptionsDTO normalize(RecommendOptionsDTO options) {
+        RecommendOptionsDTO normalized = new RecommendOptionsDTO();
+        normalized.setTasteOptions(normalize(options.getTasteOptions()));
+        normalized.setCarbOptions(normalize(options.getCarbOptions()));
+        normalized.setWeatherOptions(normalize(options.getWeatherOptions()));
+        normalized.setCategoryOptions(normalize(options.getCategoryOptions()));
+        return normalized;
+    }
+
+    private static List<String> normalize(List<String> values) {
+        if (values == null) {
+            return List.of();
+        }
+        if (values.contains(MenuBitsetIndex.ALL)) {
+            return List.of(MenuBitsetIndex.ALL);
+        }
+        return values.stream()
+                .filter(Objects::nonNull) // 요청 배열의 null 값은 어떤 메뉴와도 일치하지 않으므로 제외
+                .distinct()
+                .sorted()
+                .toList();
+    }
+
+    private record Key(long catalogVersion, List<String> tasteOptions, List<String> carbOptions,
+                       List<String> weatherOptions, List<String> categoryOptions) {
+    }
+}
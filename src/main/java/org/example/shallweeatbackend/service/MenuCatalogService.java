@@ -0,0 +1,136 @@
+package org.example.shallweeatbackend.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.shallweeatbackend.dto.CatalogMenuDTO;
+import org.example.shallweeatbackend.event.MenuCatalogChangedEvent;
+import org.example.shallweeatbackend.event.MenuCatalogReloadedEvent;
+import org.example.shallweeatbackend.repository.MenuRepository;
+import org.example.shallweeatbackend.util.MenuCatalog;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 전체 메뉴(태그 포함)의 불변 스냅샷인 MenuCatalog를 보관하는 서비스입니다.
+ * 애플리케이션 시작 시 한 번 적재하고, 메뉴/메뉴 태그/태그가 변경되면 트랜잭션 커밋 후 새 스냅샷으로 원자적으로 교체합니다.
+ * 읽는 쪽은 현재 스냅샷 참조만 가져가므로 재적재 중에도 잠금 없이 이전 스냅샷을 그대로 사용합니다.
+ */
+@Service
+@Slf4j
+public class MenuCatalogService {
+
+    private final MenuRepository menuRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final AtomicReference<MenuCatalog> catalog = new AtomicReference<>();
+    private final AtomicLong versionSequence = new AtomicLong();
+    private volatile long lastReloadStartedAtNanos = Long.MIN_VALUE; // 마지막 재적재 시작 시각
+
+    public MenuCatalogService(MenuRepository menuRepository, ApplicationEventPublisher eventPublisher,
+                              PlatformTransactionManager transactionManager) {
+        this.menuRepository = menuRepository;
+        this.eventPublisher = eventPublisher;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    // 애플리케이션 시작 시 카탈로그 적재
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        reload();
+    }
+
+    // 메뉴/메뉴 태그/태그 변경이 커밋된 후 카탈로그 재적재 (같은 트랜잭션의 여러 변경은 한 번만 반영)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMenuCatalogChanged(MenuCatalogChangedEvent event) {
+        if (event.getChangedAtNanos() - lastReloadStartedAtNanos < 0) {
+            return; // 변경 이후에 시작된 재적재가 이미 반영함
+        }
+        reload();
+    }
+
+    // DB에서 전체 메뉴를 읽어 새 스냅샷을 만들고 현재 스냅샷과 교체
+    public synchronized MenuCatalog reload() {
+        lastReloadStartedAtNanos = System.nanoTime();
+
+        List<CatalogMenuDTO> menus = readOnlyTransaction.execute(status -> menuRepository.findAllWithTags().stream()
+                .map(CatalogMenuDTO::new)
+                .collect(Collectors.toList()));
+
+        MenuCatalog reloaded = new MenuCatalog(versionSequence.incrementAndGet(), menus);
+        catalog.set(reloaded);
+        log.info("메뉴 카탈로그 적재 완료 (버전: {}, 메뉴 수: {})", reloaded.getVersion(), menus.size());
+
+        eventPublisher.publishEvent(new MenuCatalogReloadedEvent(reloaded.getVersion()));
+        return reloaded;
+    }
+
+    // 현재 카탈로그 스냅샷 조회 (아직 적재 전이면 즉시 적재)
+    public MenuCatalog getCatalog() {
+        MenuCatalog current = catalog.get();
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            current = catalog.get();
+            return current != null ? current : reload();
+        }
+    }
+
+    // 메뉴 ID로 메뉴 조회 (카탈로그에 아직 반영되지 않은 메뉴는 DB에서 조회, 없으면 null)
+    public CatalogMenuDTO getMenu(Long menuId) {
+        CatalogMenuDTO menu = getCatalog().getMenu(menuId);
+        if (menu != null) {
+            return menu;
+        }
+        return menuRepository.findByMenuIdWithTags(menuId)
+                .map(CatalogMenuDTO::new)
+                .orElse(null);
+    }
+
+    // 여러 메뉴 ID로 메뉴 목록 조회 (요청한 ID 순서 유지, 존재하지 않는 메뉴는 제외)
+    public List<CatalogMenuDTO> getMenus(Collection<Long> menuIds) {
+        MenuCatalog current = getCatalog();
+
+        Set<Long> missingIds = new LinkedHashSet<>();
+        for (Long menuId : menuIds) {
+            if (current.getMenu(menuId) == null) {
+                missingIds.add(menuId);
+            }
+        }
+
+        Map<Long, CatalogMenuDTO> loaded = missingIds.isEmpty() ? Map.of() : menuRepository.findAllWithTagsByMenuIdIn(missingIds).stream()
+                .map(CatalogMenuDTO::new)
+                .collect(Collectors.toMap(CatalogMenuDTO::getMenuId, Function.identity()));
+
+        List<CatalogMenuDTO> result = new ArrayList<>(menuIds.size());
+        for (Long menuId : menuIds) {
+            CatalogMenuDTO menu = current.getMenu(menuId);
+            if (menu == null) {
+                menu = loaded.get(menuId);
+            }
+            if (menu != null) {
+                result.add(menu);
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,109 @@
+package org.example.shallweeatbackend.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.shallweeatbackend.constant.MenuOptionType;
+import org.example.shallweeatbackend.event.MenuCatalogChangedEvent;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 메뉴의 콤마 구분 옵션 문자열(taste_options, carb_options, weather_options, category_options)과
+ * menu_option 테이블의 행을 맞추는 서비스입니다.
+ * 두 저장 형태를 비교해 빠진 행은 추가하고 더 이상 없는 값의 행은 삭제합니다.
+ * 애플리케이션 시작 시 전체 메뉴를, 실행 중 메뉴가 변경되면 커밋 후 해당 메뉴만 동기화합니다.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class MenuOptionSyncService {
+
+    private static final String MENU_SQL = "SELECT menu_id, taste_options, carb_options, weather_options, category_options FROM menu";
+    private static final String OPTION_SQL = "SELECT menu_id, option_type, option_value FROM menu_option";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 전체 메뉴 동기화
+    @Transactional
+    public void syncAll() {
+        sync(MENU_SQL, OPTION_SQL);
+    }
+
+    // 메뉴 변경이 커밋된 후 해당 메뉴의 옵션 행 동기화 (메뉴 태그/태그 변경은 옵션과 무관하므로 제외)
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onMenuCatalogChanged(MenuCatalogChangedEvent event) {
+        if (event.getMenuId() != null) {
+            sync(MENU_SQL + " WHERE menu_id = ?", OPTION_SQL + " WHERE menu_id = ?", event.getMenuId());
+        }
+    }
+
+    private void sync(String menuSql, String optionSql, Object... args) {
+        // 메뉴 옵션 문자열 기준으로 있어야 할 (메뉴 ID, 옵션 종류, 옵션 값) 목록
+        Set<OptionRow> expected = new LinkedHashSet<>();
+        jdbcTemplate.query(menuSql, rs -> {
+            long menuId = rs.getLong("menu_id");
+            addOptions(expected, menuId, MenuOptionType.TASTE, rs.getString("taste_options"));
+            addOptions(expected, menuId, MenuOptionType.CARB, rs.getString("carb_options"));
+            addOptions(expected, menuId, MenuOptionType.WEATHER, rs.getString("weather_options"));
+            addOptions(expected, menuId, MenuOptionType.CATEGORY, rs.getString("category_options"));
+        }, args);
+
+        // 현재 menu_option 테이블에 저장된 목록
+        Set<OptionRow> existing = new HashSet<>();
+        jdbcTemplate.query(optionSql, rs -> {
+            existing.add(new OptionRow(rs.getLong("menu_id"),
+                    MenuOptionType.valueOf(rs.getString("option_type")),
+                    rs.getString("option_value")));
+        }, args);
+
+        List<Object[]> inserts = new ArrayList<>();
+        for (OptionRow row : expected) {
+            if (!existing.contains(row)) {
+                inserts.add(new Object[]{row.menuId(), row.optionType().name(), row.optionValue()});
+            }
+        }
+
+        List<Object[]> deletes = new ArrayList<>();
+        for (OptionRow row : existing) {
+            if (!expected.contains(row)) {
+                deletes.add(new Object[]{row.menuId(), row.optionType().name(), row.optionValue()});
+            }
+        }
+
+        if (!deletes.isEmpty()) {
+            jdbcTemplate.batchUpdate("DELETE FROM menu_option WHERE menu_id = ? AND option_type = ? AND option_value = ?", deletes);
+        }
+        if (!inserts.isEmpty()) {
+            jdbcTemplate.batchUpdate("INSERT INTO menu_option (menu_id, option_type, option_value) VALUES (?, ?, ?)", inserts);
+        }
+
+        if (!inserts.isEmpty() || !deletes.isEmpty()) {
+            log.info("메뉴 옵션 동기화 완료 (추가: {}, 삭제: {})", inserts.size(), deletes.size());
+        }
+    }
+
+    private static void addOptions(Set<OptionRow> rows, long menuId, MenuOptionType optionType, String commaSeparated) {
+        if (commaSeparated == null) {
+            return;
+        }
+        for (String value : commaSeparated.split(",")) {
+            String trimmed = value.trim();
+            if (!trimmed.isEmpty()) {
+                rows.add(new OptionRow(menuId, optionType, trimmed));
+            }
+        }
+    }
+
+    private record OptionRow(long menuId, MenuOptionType optionType, String optionValue) {
+    }
+}
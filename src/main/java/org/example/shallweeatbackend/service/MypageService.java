@@ -1,14 +1,11 @@
 package org.example.shallweeatbackend.service;
 import lombok.RequiredArgsConstructor;
+import org.example.shallweeatbackend.dto.CursorPageDTO;
 import org.example.shallweeatbackend.dto.UserDTO;
-import org.example.shallweeatbackend.entity.Menu;
-import org.example.shallweeatbackend.entity.TeamBoard;
-import org.example.shallweeatbackend.entity.User;
-import org.example.shallweeatbackend.entity.Vote;
-import org.example.shallweeatbackend.exception.UserNotFoundException;
-import org.example.shallweeatbackend.repository.MenuRepository;
-import org.example.shallweeatbackend.repository.UserRepository;
-import org.example.shallweeatbackend.repository.VoteRepository;
+import org.example.shallweeatbackend.dto.VoteHistoryBoardDTO;
+import org.example.shallweeatbackend.dto.VoteHistoryTallyDTO;
+import org.example.shallweeatbackend.repository.TeamBoardRepository;
+import org.example.shallweeatbackend.repository.VoteTallyRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,67 +18,87 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class MypageService {
 
-    private final UserRepository userRepository;
-    private final VoteRepository voteRepository;
-    private final MenuRepository menuRepository;
+    private final CurrentUserService currentUserService;
+    private final TeamBoardRepository teamBoardRepository;
+    private final VoteTallyRepository voteTallyRepository;
+
+    private static final int MAX_PAGE_SIZE = 50;
 
     public UserDTO getUserInfo(String providerId) {
-        User user = userRepository.findByProviderId(providerId);
-        if (user == null) {
-            throw new UserNotFoundException("사용자를 찾을 수 없습니다.");
-        }
-        return convertToUserDTO(user);
+        return convertToUserDTO(currentUserService.getProfile(providerId));
+    }
+
+    // 사용자가 생성했거나 참여한 팀 메뉴판의 투표 결과 전체 조회
+    public List<Map<String, Object>> getAllVotes(String providerId) {
+        Long userId = currentUserService.getUserId(providerId);
+        return buildVoteHistory(findVotedBoards(userId, Long.MAX_VALUE, Integer.MAX_VALUE));
     }
 
-    public List<Map<String, Object>> getAllVotes() {
-        // 모든 투표를 조회합니다.
-        List<Vote> allVotes = voteRepository.findAll();
+    // 사용자가 생성했거나 참여한 팀 메뉴판의 투표 결과를 최신 메뉴판부터 limit개씩 조회 (after: 이전 페이지의 nextCursor)
+    public CursorPageDTO<Map<String, Object>> getVoteHistory(String providerId, Long after, int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("limit은 1에서 " + MAX_PAGE_SIZE + " 사이여야 합니다.");
+        }
+        Long userId = currentUserService.getUserId(providerId);
 
-        // 팀 보드별로 투표를 그룹화합니다.
-        Map<Long, List<Vote>> votesGroupedByTeamBoard = allVotes.stream()
-                .collect(Collectors.groupingBy(vote -> vote.getTeamBoard().getTeamBoardId()));
+        // 다음 페이지 존재 여부를 알기 위해 limit + 1개 조회
+        List<VoteHistoryBoardDTO> boards = findVotedBoards(userId, after == null ? Long.MAX_VALUE : after, limit + 1);
 
-        List<Map<String, Object>> result = new ArrayList<>();
+        Long nextCursor = null;
+        if (boards.size() > limit) {
+            boards = boards.subList(0, limit);
+            nextCursor = boards.get(limit - 1).getTeamBoardId();
+        }
+        return new CursorPageDTO<>(buildVoteHistory(boards), nextCursor);
+    }
 
-        for (Map.Entry<Long, List<Vote>> entry : votesGroupedByTeamBoard.entrySet()) {
-            List<Vote> votes = entry.getValue();
-            TeamBoard teamBoard = votes.get(0).getTeamBoard();
+    // 투표가 있는 팀 메뉴판 ID를 생성/참여 UNION 쿼리로 한 페이지 조회한 뒤, 이름과 투표일을 ID로 조회
+    private List<VoteHistoryBoardDTO> findVotedBoards(Long userId, Long after, int limit) {
+        List<Long> teamBoardIds = teamBoardRepository.findVotedBoardIdsByUserId(userId, after, limit);
+        if (teamBoardIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return teamBoardRepository.findVoteHistoryBoardsByTeamBoardIdIn(teamBoardIds);
+    }
 
-            Map<Long, Long> menuVoteCounts = votes.stream()
-                    .collect(Collectors.groupingBy(vote -> vote.getMenu().getMenuId(), Collectors.counting()));
+    // 팀 메뉴판 목록의 메뉴별 투표 수를 한 번의 쿼리로 조회해 응답 형태로 변환
+    private List<Map<String, Object>> buildVoteHistory(List<VoteHistoryBoardDTO> boards) {
+        if (boards.isEmpty()) {
+            return new ArrayList<>();
+        }
 
-            // 득표수 내림차순, 득표수가 같으면 메뉴ID 오름차순 정렬
-            List<Map<String, Object>> voteItems = menuVoteCounts.entrySet().stream()
-                    .map(menuEntry -> {
-                        Menu menu = menuRepository.findById(menuEntry.getKey())
-                                .orElseThrow(() -> new RuntimeException("메뉴를 찾을 수 없습니다."));
-                        Map<String, Object> voteItem = new HashMap<>();
-                        voteItem.put("menuId", menu.getMenuId());
-                        voteItem.put("menuName", menu.getMenuName());
-                        voteItem.put("voteValue", menuEntry.getValue());
-                        return voteItem;
-                    })
-                    .sorted(Comparator.comparing((Map<String, Object> item) -> (Long) item.get("voteValue")).reversed()
-                            .thenComparing(item -> (Long) item.get("menuId")))
-                    .collect(Collectors.toList());
+        List<Long> teamBoardIds = boards.stream()
+                .map(VoteHistoryBoardDTO::getTeamBoardId)
+                .collect(Collectors.toList());
 
-            Map<String, Object> teamBoardVotes = new HashMap<>();
-            teamBoardVotes.put("teamName", teamBoard.getTeamName());
-            teamBoardVotes.put("voteDate", votes.get(0).getCreatedDate().format(DateTimeFormatter.ofPattern("yyyy-MM-dd")));
-            teamBoardVotes.put("votes", voteItems);
+        // 득표수 내림차순, 득표수가 같으면 메뉴ID 오름차순으로 정렬된 상태로 조회
+        Map<Long, List<Map<String, Object>>> voteItemsByTeamBoard = new HashMap<>();
+        for (VoteHistoryTallyDTO tally : voteTallyRepository.findTalliesByTeamBoardIdIn(teamBoardIds)) {
+            Map<String, Object> voteItem = new HashMap<>();
+            voteItem.put("menuId", tally.getMenuId());
+            voteItem.put("menuName", tally.getMenuName());
+            voteItem.put("voteValue", tally.getVoteCount());
+            voteItemsByTeamBoard.computeIfAbsent(tally.getTeamBoardId(), key -> new ArrayList<>()).add(voteItem);
+        }
 
+        List<Map<String, Object>> result = new ArrayList<>();
+        for (VoteHistoryBoardDTO board : boards) {
+            Map<String, Object> teamBoardVotes = new HashMap<>();
+            teamBoardVotes.put("teamBoardId", board.getTeamBoardId());
+            teamBoardVotes.put("teamName", board.getTeamName());
+            teamBoardVotes.put("voteDate", board.getVoteDate() == null ? null : board.getVoteDate().format(DateTimeFormatter.ofPattern("yyyy-MM-dd")));
+            teamBoardVotes.put("votes", voteItemsByTeamBoard.getOrDefault(board.getTeamBoardId(), new ArrayList<>()));
             result.add(teamBoardVotes);
         }
-
         return result;
     }
 
-    private UserDTO convertToUserDTO(User user) {
+    private UserDTO convertToUserDTO(UserLookupCache.Profile user) {
         UserDTO dto = new UserDTO();
-        dto.setName(user.getName());
-        dto.setEmail(user.getEmail());
-        dto.setProviderId(user.getProviderId());
-        dto.setRole(user.getRole());
+        dto.setName(user.name());
+        dto.setEmail(user.email());
+        dto.setProviderId(user.providerId());
+        dto.setRole(user.role());
         return dto;
     }
 }
@@ -1,24 +1,26 @@
 package org.example.shallweeatbackend.service;
 
 import lombok.RequiredArgsConstructor;
+import org.example.shallweeatbackend.constant.MenuOptionType;
+import org.example.shallweeatbackend.dto.CatalogMenuDTO;
 import org.example.shallweeatbackend.dto.CategoryMenuDTO;
 import org.example.shallweeatbackend.dto.PersonalBoardDTO;
 import org.example.shallweeatbackend.dto.RecommendMenuDTO;
 import org.example.shallweeatbackend.dto.RecommendOptionsDTO;
-import org.example.shallweeatbackend.entity.Menu;
 import org.example.shallweeatbackend.entity.PersonalBoard;
-import org.example.shallweeatbackend.entity.PersonalBoardMenu;
 import org.example.shallweeatbackend.entity.User;
 import org.example.shallweeatbackend.exception.PersonalBoardNotFoundException;
-import org.example.shallweeatbackend.exception.UserNotFoundException;
 import org.example.shallweeatbackend.repository.*;
+import org.example.shallweeatbackend.util.MenuCatalog;
+import org.example.shallweeatbackend.util.RecommendationTable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Map;
-import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -27,15 +29,15 @@ import java.util.stream.Collectors;
 public class PersonalBoardService {
 
     private final PersonalBoardRepository personalBoardRepository;
-    private final MenuRepository menuRepository;
-    private final UserRepository userRepository;
+    private final CurrentUserService currentUserService;
     private final PersonalBoardMenuRepository personalBoardMenuRepository;
+    private final MenuCatalogService menuCatalogService;
+    private final GuestRecommendCache guestRecommendCache;
+    private final BoardVersionService boardVersionService;
 
     public PersonalBoardDTO createPersonalBoard(String providerId, String name) {
-        User user = userRepository.findByProviderId(providerId);
-        if (user == null) {
-            throw new UserNotFoundException("유저를 찾을 수 없습니다.");
-        }
+        // 응답에 사용자 이름/이메일이 필요하므로 엔티티 조회 (토큰의 userId가 있으면 기본 키로 조회)
+        User user = currentUserService.getUser(providerId);
 
         PersonalBoard personalBoard = new PersonalBoard();
         personalBoard.setUser(user);
@@ -45,11 +47,7 @@ public class PersonalBoardService {
     }
 
     public List<PersonalBoardDTO> getPersonalBoardsByUserProviderId(String providerId) {
-        User user = userRepository.findByProviderId(providerId);
-        if (user == null) {
-            throw new UserNotFoundException("유저를 찾을 수 없습니다.");
-        }
-
+        User user = currentUserService.getReference(providerId);
         return personalBoardRepository.findByUser(user).stream()
                 .map(this::convertToDTO)
                 .collect(Collectors.toList());
@@ -60,6 +58,7 @@ public class PersonalBoardService {
                 .orElseThrow(() -> new PersonalBoardNotFoundException("메뉴판을 찾을 수 없습니다."));
         personalBoard.setName(name);
         PersonalBoard updatedPersonalBoard = personalBoardRepository.save(personalBoard);
+        boardVersionService.personalBoardChanged(id);
         return convertToDTO(updatedPersonalBoard);
     }
 
@@ -77,8 +76,10 @@ public class PersonalBoardService {
             throw new PersonalBoardNotFoundException("메뉴판을 찾을 수 없습니다.");
         }
 
-        Optional<Menu> optionalMenu = menuRepository.findByMenuIdWithTags(menuId);
-        Menu menu = optionalMenu.orElseThrow(() -> new PersonalBoardNotFoundException("메뉴를 찾을 수 없습니다."));
+        CatalogMenuDTO menu = menuCatalogService.getMenu(menuId);
+        if (menu == null) {
+            throw new PersonalBoardNotFoundException("메뉴를 찾을 수 없습니다.");
+        }
 
         boolean existsPersonalBoardMenu = personalBoardMenuRepository.existsByPersonalBoardIdAndMenuId(personalBoardId, menuId);
         if (!existsPersonalBoardMenu) {
@@ -90,65 +91,40 @@ public class PersonalBoardService {
 
     public List<CategoryMenuDTO> recommendMenus(Long personalBoardId, RecommendOptionsDTO options) {
         // 개인 메뉴판 존재 여부 확인
-        PersonalBoard personalBoard = personalBoardRepository.findById(personalBoardId)
-                .orElseThrow(() -> new PersonalBoardNotFoundException("메뉴판을 찾을 수 없습니다."));
+        if (!personalBoardRepository.existsById(personalBoardId)) {
+            throw new PersonalBoardNotFoundException("메뉴판을 찾을 수 없습니다.");
+        }
 
-        // 모든 메뉴 가져오기
-        List<Menu> allMenus = menuRepository.findAllWithTags();
+        // 추천 메뉴 필터링 (메뉴 카탈로그의 미리 계산된 테이블 또는 비트셋 인덱스 사용)
+        RecommendationTable.Entry recommendation = menuCatalogService.getCatalog().recommend(options);
+        List<CatalogMenuDTO> matchedMenus = recommendation.getMenus();
 
-        // 추천 메뉴 필터링
-        List<RecommendMenuDTO> recommendedMenus = allMenus.stream()
-                .filter(menu -> options.getTasteOptions().contains("ALL") || containsAny(convertToList(menu.getTasteOptions()), options.getTasteOptions()))
-                .filter(menu -> options.getCarbOptions().contains("ALL") || containsAny(convertToList(menu.getCarbOptions()), options.getCarbOptions()))
-                .filter(menu -> options.getWeatherOptions().contains("ALL") || containsAny(convertToList(menu.getWeatherOptions()), options.getWeatherOptions()))
-                .filter(menu -> options.getCategoryOptions().contains("ALL") || containsAny(convertToList(menu.getCategoryOptions()), options.getCategoryOptions()))
-                .map(this::convertToRecommendMenuDTO)
+        // 기존 메뉴와 새 추천 메뉴 비교 (다시 추천해도 대부분 그대로이므로 바뀐 메뉴만 반영)
+        Set<Long> existingMenuIds = new HashSet<>(personalBoardMenuRepository.findMenuIdsByPersonalBoardId(personalBoardId));
+        Set<Long> recommendedMenuIds = new LinkedHashSet<>();
+        for (CatalogMenuDTO menu : matchedMenus) {
+            recommendedMenuIds.add(menu.getMenuId());
+        }
+
+        // 더 이상 추천되지 않는 메뉴는 한 번의 DELETE로 삭제
+        List<Long> removedMenuIds = existingMenuIds.stream()
+                .filter(menuId -> !recommendedMenuIds.contains(menuId))
+                .collect(Collectors.toList());
+        if (!removedMenuIds.isEmpty()) {
+            personalBoardMenuRepository.deleteAllByPersonalBoardIdAndMenuIdIn(personalBoardId, removedMenuIds);
+        }
+
+        // 새로 추천된 메뉴만 배치 INSERT로 추가
+        List<Long> addedMenuIds = recommendedMenuIds.stream()
+                .filter(menuId -> !existingMenuIds.contains(menuId))
                 .collect(Collectors.toList());
+        personalBoardMenuRepository.batchInsert(personalBoardId, addedMenuIds);
+        if (!removedMenuIds.isEmpty() || !addedMenuIds.isEmpty()) {
+            boardVersionService.personalBoardChanged(personalBoardId);
+        }
 
-        // 기존 개인 메뉴판의 메뉴들 삭제
-        personalBoardMenuRepository.deleteAllByPersonalBoard(personalBoard);
-
-        // 새로운 추천 메뉴 저장
-        List<PersonalBoardMenu> personalBoardMenus = recommendedMenus.stream().map(recommendMenuDTO -> {
-            Menu menu = allMenus.stream()
-                    .filter(m -> m.getMenuId().equals(recommendMenuDTO.getMenuId()))
-                    .findFirst()
-                    .orElseThrow(() -> new PersonalBoardNotFoundException("메뉴를 찾을 수 없습니다."));
-
-            PersonalBoardMenu personalBoardMenu = new PersonalBoardMenu();
-            personalBoardMenu.setPersonalBoard(personalBoard);
-            personalBoardMenu.setMenu(menu);
-            return personalBoardMenu;
-        }).collect(Collectors.toList());
-
-        personalBoardMenuRepository.saveAll(personalBoardMenus);
-
-        // 카테고리별로 그룹화
-        Map<String, List<CategoryMenuDTO.MenuDTO>> categorizedMenus = recommendedMenus.stream()
-                .collect(Collectors.groupingBy(
-                        RecommendMenuDTO::getCategoryOptions,
-                        Collectors.mapping(recommendMenuDTO -> {
-                            CategoryMenuDTO.MenuDTO menuDTO = new CategoryMenuDTO.MenuDTO();
-                            menuDTO.setMenuId(recommendMenuDTO.getMenuId());
-                            menuDTO.setImageUrl(recommendMenuDTO.getImageUrl());
-                            menuDTO.setMenuName(recommendMenuDTO.getMenuName());
-                            menuDTO.setTags(recommendMenuDTO.getTags());
-                            return menuDTO;
-                        }, Collectors.toList())
-                ));
-
-        // 카테고리 순서 지정
-        List<String> categoryOrder = Arrays.asList("한식", "중식", "일식", "양식", "인도/베트남/태국", "멕시코", "육류/해산물");
-
-        // 카테고리 순서에 따라 정렬하여 반환
-        return categoryOrder.stream()
-                .filter(categorizedMenus::containsKey)
-                .map(category -> {
-                    CategoryMenuDTO categoryMenuDTO = new CategoryMenuDTO();
-                    categoryMenuDTO.setCategory(category);
-                    categoryMenuDTO.setMenu(categorizedMenus.get(category));
-                    return categoryMenuDTO;
-                }).collect(Collectors.toList());
+        // 카테고리별로 그룹화된 결과 반환
+        return recommendation.getCategories();
     }
 
     public List<RecommendMenuDTO> getMenusByPersonalBoardId(Long personalBoardId) {
@@ -158,11 +134,11 @@ public class PersonalBoardService {
             throw new PersonalBoardNotFoundException("메뉴판을 찾을 수 없습니다.");
         }
 
-        // 개인 메뉴판에 담긴 메뉴 조회
-        List<PersonalBoardMenu> personalBoardMenus = personalBoardMenuRepository.findAllByPersonalBoardId(personalBoardId);
+        // 개인 메뉴판에 담긴 메뉴 조회 (메뉴 정보는 메뉴 카탈로그에서 조회)
+        List<Long> menuIds = personalBoardMenuRepository.findMenuIdsByPersonalBoardId(personalBoardId);
 
-        return personalBoardMenus.stream()
-                .map(pbMenu -> convertToRecommendMenuDTO(pbMenu.getMenu()))
+        return menuCatalogService.getMenus(menuIds).stream()
+                .map(this::convertToRecommendMenuDTO)
                 .collect(Collectors.toList());
     }
 
@@ -172,76 +148,35 @@ public class PersonalBoardService {
             throw new PersonalBoardNotFoundException("메뉴판을 찾을 수 없습니다.");
         }
 
-        List<PersonalBoardMenu> personalBoardMenus = personalBoardMenuRepository.findAllByPersonalBoardId(personalBoardId);
-
-        Map<String, List<CategoryMenuDTO.MenuDTO>> categorizedMenus = personalBoardMenus.stream()
-                .collect(Collectors.groupingBy(
-                        pbMenu -> pbMenu.getMenu().getCategoryOptions(),
-                        Collectors.mapping(pbMenu -> {
-                            CategoryMenuDTO.MenuDTO menuDTO = new CategoryMenuDTO.MenuDTO();
-                            menuDTO.setMenuId(pbMenu.getMenu().getMenuId());
-                            menuDTO.setImageUrl(pbMenu.getMenu().getImageUrl());
-                            menuDTO.setMenuName(pbMenu.getMenu().getMenuName());
-                            menuDTO.setTags(pbMenu.getMenu().getMenuTags().stream()
-                                    .map(menuTag -> menuTag.getTag().getName())
-                                    .collect(Collectors.toList()));
-                            return menuDTO;
-                        }, Collectors.toList())
-                ));
-
-        // 카테고리 순서 지정
-        List<String> categoryOrder = Arrays.asList("한식", "중식", "일식", "양식", "인도/베트남/태국", "멕시코", "육류/해산물");
-
-        // 카테고리 순서에 따라 정렬하여 반환
-        return categoryOrder.stream()
-                .filter(categorizedMenus::containsKey)
-                .map(category -> {
-                    CategoryMenuDTO categoryMenuDTO = new CategoryMenuDTO();
-                    categoryMenuDTO.setCategory(category);
-                    categoryMenuDTO.setMenu(categorizedMenus.get(category));
-                    return categoryMenuDTO;
-                }).collect(Collectors.toList());
+        List<Long> menuIds = personalBoardMenuRepository.findMenuIdsByPersonalBoardId(personalBoardId);
+
+        return MenuCatalog.groupByCategory(menuCatalogService.getMenus(menuIds));
     }
 
+    public List<CategoryMenuDTO> getMenusByCategory(Long personalBoardId, String category) {
+        boolean exists = personalBoardRepository.existsById(personalBoardId);
+        if (!exists) {
+            throw new PersonalBoardNotFoundException("메뉴판을 찾을 수 없습니다.");
+        }
+
+        // 메뉴 옵션 인덱스로 해당 카테고리 메뉴만 조회 (메뉴판 전체를 읽지 않음)
+        List<Long> menuIds = personalBoardMenuRepository.findMenuIdsByPersonalBoardIdAndOption(personalBoardId, MenuOptionType.CATEGORY, category);
+
+        return MenuCatalog.groupByCategory(menuCatalogService.getMenus(menuIds));
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // 캐시 조회만으로 끝나는 경우 DB 커넥션을 사용하지 않도록 트랜잭션 없이 실행
     public List<CategoryMenuDTO> recommendMenusForGuest(RecommendOptionsDTO options) {
-        // 모든 메뉴 가져오기
-        List<Menu> allMenus = menuRepository.findAllWithTags();
-
-        // 추천 메뉴 필터링
-        List<RecommendMenuDTO> recommendedMenus = allMenus.stream()
-                .filter(menu -> options.getTasteOptions().contains("ALL") || containsAny(convertToList(menu.getTasteOptions()), options.getTasteOptions()))
-                .filter(menu -> options.getCarbOptions().contains("ALL") || containsAny(convertToList(menu.getCarbOptions()), options.getCarbOptions()))
-                .filter(menu -> options.getWeatherOptions().contains("ALL") || containsAny(convertToList(menu.getWeatherOptions()), options.getWeatherOptions()))
-                .filter(menu -> options.getCategoryOptions().contains("ALL") || containsAny(convertToList(menu.getCategoryOptions()), options.getCategoryOptions()))
-                .map(this::convertToRecommendMenuDTO)
-                .collect(Collectors.toList());
+        // 미리 계산된 옵션 조합이면 바로 반환
+        MenuCatalog catalog = menuCatalogService.getCatalog();
+        RecommendationTable.Entry precomputed = catalog.lookupPrecomputed(options);
+        if (precomputed != null) {
+            return precomputed.getCategories();
+        }
 
-        // 카테고리별로 그룹화
-        Map<String, List<CategoryMenuDTO.MenuDTO>> categorizedMenus = recommendedMenus.stream()
-                .collect(Collectors.groupingBy(
-                        RecommendMenuDTO::getCategoryOptions,
-                        Collectors.mapping(recommendMenuDTO -> {
-                            CategoryMenuDTO.MenuDTO menuDTO = new CategoryMenuDTO.MenuDTO();
-                            menuDTO.setMenuId(recommendMenuDTO.getMenuId());
-                            menuDTO.setImageUrl(recommendMenuDTO.getImageUrl());
-                            menuDTO.setMenuName(recommendMenuDTO.getMenuName());
-                            menuDTO.setTags(recommendMenuDTO.getTags());
-                            return menuDTO;
-                        }, Collectors.toList())
-                ));
-
-        // 카테고리 순서 지정
-        List<String> categoryOrder = Arrays.asList("한식", "중식", "일식", "양식", "인도/베트남/태국", "멕시코", "육류/해산물");
-
-        // 카테고리 순서에 따라 정렬하여 반환
-        return categoryOrder.stream()
-                .filter(categorizedMenus::containsKey)
-                .map(category -> {
-                    CategoryMenuDTO categoryMenuDTO = new CategoryMenuDTO();
-                    categoryMenuDTO.setCategory(category);
-                    categoryMenuDTO.setMenu(categorizedMenus.get(category));
-                    return categoryMenuDTO;
-                }).collect(Collectors.toList());
+        // 그 외 조합은 정규화된 옵션 조합별로 캐시된 결과 사용 (카탈로그 버전이 바뀌면 새로 계산)
+        return guestRecommendCache.get(catalog.getVersion(), options,
+                normalizedOptions -> catalog.recommend(normalizedOptions).getCategories());
     }
 
     /**
@@ -258,29 +193,13 @@ public class PersonalBoardService {
         return dto;
     }
 
-    private List<String> convertToList(String commaSeparatedString) {
-        return Arrays.asList(commaSeparatedString.split(","));
-    }
-
-    private boolean containsAny(List<String> source, List<String> target) {
-        for (String item : target) {
-            if (source.contains(item)) {
-                return true;
-            }
-        }
-        return false;
-    }
-
-    private RecommendMenuDTO convertToRecommendMenuDTO(Menu menu) {
+    private RecommendMenuDTO convertToRecommendMenuDTO(CatalogMenuDTO menu) {
         RecommendMenuDTO dto = new RecommendMenuDTO();
         dto.setMenuId(menu.getMenuId());
         dto.setImageUrl(menu.getImageUrl());
         dto.setMenuName(menu.getMenuName());
         dto.setCategoryOptions(menu.getCategoryOptions());
-        List<String> tags = menu.getMenuTags().stream()
-                .map(menuTag -> menuTag.getTag().getName())
-                .collect(Collectors.toList());
-        dto.setTags(tags);
+        dto.setTags(menu.getTags());
         return dto;
     }
 }
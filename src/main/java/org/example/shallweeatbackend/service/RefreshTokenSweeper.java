@@ -0,0 +1,49 @@
+package org.example.shallweeatbackend.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.shallweeatbackend.repository.RefreshTokenRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 만료된 refresh 토큰을 주기적으로 삭제하는 작업입니다.
+ * 한 번에 많은 행을 지우면 테이블 잠금이 길어지므로 refresh-token.sweep.chunk-size 개씩 나눠 각각 별도 트랜잭션으로 삭제하고,
+ * 만료 일시 인덱스로 대상 행을 찾아 테이블이 커져도 일정한 비용으로 동작합니다.
+ * 실행 간격은 refresh-token.sweep.fixed-delay-ms (기본 1시간) 입니다.
+ */
+@Component
+@Slf4j
+public class RefreshTokenSweeper {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final int chunkSize;
+
+    public RefreshTokenSweeper(RefreshTokenRepository refreshTokenRepository,
+                               @Value("${refresh-token.sweep.chunk-size:1000}") int chunkSize) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.chunkSize = chunkSize;
+    }
+
+    @Scheduled(initialDelayString = "${refresh-token.sweep.initial-delay-ms:60000}",
+            fixedDelayString = "${refresh-token.sweep.fixed-delay-ms:3600000}")
+    public void sweepExpiredTokens() {
+        LocalDateTime now = LocalDateTime.now();
+        int deleted = 0;
+        List<Long> expiredIds;
+        do {
+            expiredIds = refreshTokenRepository.findExpiredIds(now, PageRequest.of(0, chunkSize));
+            if (!expiredIds.isEmpty()) {
+                deleted += refreshTokenRepository.deleteAllByRefreshTokenIdIn(expiredIds);
+            }
+        } while (expiredIds.size() == chunkSize);
+
+        if (deleted > 0) {
+            log.info("만료된 refresh 토큰 삭제 완료 (삭제 행 수: {})", deleted);
+        }
+    }
+}
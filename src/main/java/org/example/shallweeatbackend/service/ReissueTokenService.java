@@ -10,10 +10,13 @@ import org.example.shallweeatbackend.entity.RefreshToken;
 import org.example.shallweeatbackend.entity.User;
 import org.example.shallweeatbackend.repository.UserRepository;
 import org.example.shallweeatbackend.util.JWTUtil;
+import org.example.shallweeatbackend.util.JwtClaims;
+import org.example.shallweeatbackend.util.TokenDigest;
 import org.example.shallweeatbackend.repository.RefreshTokenRepository;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.HashMap;
@@ -30,6 +33,8 @@ public class ReissueTokenService {
     private final RefreshTokenRepository refreshTokenRepository;
     private final UserRepository userRepository;
 
+    // 기존 refresh 토큰 삭제와 새 토큰 저장을 한 트랜잭션에서 처리 (저장이 실패하면 삭제도 롤백되어 로그인 유지)
+    @Transactional
     public ResponseEntity<?> reissue(HttpServletRequest request, HttpServletResponse response) {
         // 클라이언트의 HttpServletRequest에서 refresh 토큰 추출
         String refreshToken = getRefreshTokenFromRequest(request);
@@ -45,9 +50,10 @@ public class ReissueTokenService {
             return new ResponseEntity<>(responseBody, HttpStatus.BAD_REQUEST);
         }
 
+        JwtClaims claims;
         try {
-            // refresh 토큰 만료 여부 검증
-            jwtUtil.isExpired(refreshToken);
+            // refresh 토큰 서명과 만료 여부를 한 번에 검증하고 클레임 획득
+            claims = jwtUtil.parse(refreshToken);
         } catch (ExpiredJwtException e) {
             // refresh 토큰이 만료된 경우, 클라이언트에게 401 응답 반환
             responseBody.put("message", "리프레시 토큰이 만료되었습니다.");
@@ -58,8 +64,9 @@ public class ReissueTokenService {
             return new ResponseEntity<>(responseBody, HttpStatus.BAD_REQUEST);
         }
 
-        // DB에서 refresh 토큰의 존재 여부 확인
-        Boolean isExist = refreshTokenRepository.existsByRefreshToken(refreshToken);
+        // DB에서 refresh 토큰의 존재 여부 확인 (토큰 다이제스트의 유니크 인덱스로 조회)
+        String refreshTokenHash = TokenDigest.sha256Hex(refreshToken);
+        Boolean isExist = refreshTokenRepository.existsByTokenHash(refreshTokenHash);
         if (!isExist) {
             // 존재하지 않는 경우, 클라이언트에게 400 응답 반환
             responseBody.put("message", "리프레시 토큰을 찾을 수 없습니다.");
@@ -67,20 +74,29 @@ public class ReissueTokenService {
         }
 
         // refresh 토큰 타입 검사
-        String category = jwtUtil.getCategory(refreshToken);
-        if (!category.equals("refresh")) {
+        if (!claims.isRefresh()) {
             // 유효하지 않은 경우, 클라이언트에게 400 응답 반환
             responseBody.put("message", "유효하지 않은 토큰 유형입니다.");
             return new ResponseEntity<>(responseBody, HttpStatus.BAD_REQUEST);
         }
 
         // 새로운 access 토큰과 refresh 토큰을 발급하고, DB에 새 refresh 토큰 추가
-        String providerId = jwtUtil.getProviderId(refreshToken);
-        String role = jwtUtil.getRole(refreshToken);
-        String newAccessToken = jwtUtil.createJwt("access", providerId, role, 1800000L); // 30분 (1800000ms)
-        String newRefreshToken = jwtUtil.createJwt("refresh", providerId, role, 1209600000L); // 2주 (1209600000ms)
-        refreshTokenRepository.deleteByRefreshToken(refreshToken);
-        addRefresh(providerId, newRefreshToken);
+        // userId 클레임이 없는 이전 토큰이면 providerId로 사용자 ID를 조회해 새 토큰에 포함
+        String providerId = claims.providerId();
+        String role = claims.role();
+        Long userId = claims.userId() != null ? claims.userId() : userRepository.findUserIdByProviderId(providerId);
+        if (userId == null) {
+            responseBody.put("message", "사용자를 찾을 수 없습니다.");
+            return new ResponseEntity<>(responseBody, HttpStatus.NOT_FOUND);
+        }
+        String newAccessToken = jwtUtil.createJwt("access", providerId, userId, role, 1800000L); // 30분 (1800000ms)
+        String newRefreshToken = jwtUtil.createJwt("refresh", providerId, userId, role, 1209600000L); // 2주 (1209600000ms)
+        // 기존 refresh 토큰 삭제 (동시 재발급 요청이 먼저 삭제했으면 재사용으로 보고 거절)
+        if (refreshTokenRepository.deleteByTokenHash(refreshTokenHash) == 0) {
+            responseBody.put("message", "리프레시 토큰을 찾을 수 없습니다.");
+            return new ResponseEntity<>(responseBody, HttpStatus.BAD_REQUEST);
+        }
+        addRefresh(userId, newRefreshToken);
 
         // 응답 본문에 access 토큰 포함
         responseBody.put("access", newAccessToken);
@@ -107,16 +123,16 @@ public class ReissueTokenService {
     }
 
     // refresh 토큰 DB에 저장
-    private void addRefresh(String providerId, String refreshToken) {
+    private void addRefresh(Long userId, String refreshToken) {
         // 현재 시간에 2주를 더하여 만료 시간 설정
         LocalDateTime expirationTime = LocalDateTime.now().plusWeeks(2);
 
-        // user entity 조회
-        User user = userRepository.findByProviderId(providerId);
+        // user entity 프록시 (외래 키로만 사용하므로 조회하지 않음)
+        User user = userRepository.getReferenceById(userId);
 
         RefreshToken refreshEntity = new RefreshToken();
         refreshEntity.setUser(user);
-        refreshEntity.setRefreshToken(refreshToken);
+        refreshEntity.setTokenHash(TokenDigest.sha256Hex(refreshToken)); // 원문 대신 다이제스트 저장
         refreshEntity.setExpirationTime(expirationTime);
 
         refreshTokenRepository.save(refreshEntity);
@@ -0,0 +1,317 @@
+package org.example.shallweeatbackend.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.shallweeatbackend.dto.CountMembersNumDTO;
+import org.example.shallweeatbackend.dto.CountVotedMembersNumDTO;
+import org.example.shallweeatbackend.event.TeamBoardChangedEvent;
+import org.example.shallweeatbackend.exception.SubscriberLimitExceededException;
+import org.example.shallweeatbackend.exception.TeamBoardNotFoundException;
+import org.example.shallweeatbackend.repository.TeamBoardRepository;
+import org.example.shallweeatbackend.repository.VoteRepository;
+import org.example.shallweeatbackend.repository.VoteTallyRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 팀 메뉴판별 SSE 구독을 관리하고, 메뉴 추가/투표 변경이 커밋되면 구독자에게 최신 현황을 전송하는 서비스입니다.
+ * - menu-progress: 메뉴를 추가한 인원 수 (GET /teamboards/{id}/countAdded 와 같은 내용)
+ * - vote-progress: 투표에 참여한 인원 수 (GET /votes/{id} 와 같은 내용)
+ * - vote-results: 메뉴별 투표 수 (득표수 내림차순)
+ * 팀 메뉴판의 생성자와 팀원만 구독할 수 있습니다.
+ * 연결마다 크기가 제한된 전송 대기열을 두어 느린 클라이언트는 오래된 이벤트부터 버리고,
+ * 주기적으로 하트비트를 보내 끊어진 연결을 정리합니다. 전체 및 팀 메뉴판별 동시 구독자 수도 제한합니다.
+ * 전송(emitter.send)은 블로킹이므로 하트비트 스케줄러, 현황 조회와 분리된 전송 전용 스레드 풀에서 실행하고
+ * (연결 하나는 한 번에 전송 스레드 하나만 사용), 전송이 send-timeout-seconds 이상 끝나지 않는 연결은 구독에서 제외합니다.
+ */
+@Service
+@Slf4j
+public class TeamBoardEventService {
+
+    private final TeamBoardRepository teamBoardRepository;
+    private final VoteRepository voteRepository;
+    private final VoteTallyRepository voteTallyRepository;
+    private final CurrentUserService currentUserService;
+    private final TeamBoardMembershipService teamBoardMembershipService;
+
+    private final long timeoutMillis;
+    private final int bufferSize;
+    private final int maxSubscribers;
+    private final int maxSubscribersPerBoard;
+
+    private final Map<Long, Set<Subscription>> subscriptions = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final long sendTimeoutNanos;
+    private final ScheduledExecutorService heartbeatScheduler; // 하트비트 전용
+    private final ExecutorService dispatcher; // 현황 조회 후 대기열에 추가
+    private final ThreadPoolExecutor sender; // 대기열 전송 (블로킹)
+
+    public TeamBoardEventService(TeamBoardRepository teamBoardRepository, VoteRepository voteRepository,
+                                 VoteTallyRepository voteTallyRepository, CurrentUserService currentUserService,
+                                 TeamBoardMembershipService teamBoardMembershipService,
+                                 @Value("${teamboard.sse.timeout-millis:1800000}") long timeoutMillis,
+                                 @Value("${teamboard.sse.buffer-size:16}") int bufferSize,
+                                 @Value("${teamboard.sse.max-subscribers:1000}") int maxSubscribers,
+                                 @Value("${teamboard.sse.max-subscribers-per-board:20}") int maxSubscribersPerBoard,
+                                 @Value("${teamboard.sse.heartbeat-seconds:15}") long heartbeatSeconds,
+                                 @Value("${teamboard.sse.dispatch-threads:2}") int dispatchThreads,
+                                 @Value("${teamboard.sse.send-threads:8}") int sendThreads,
+                                 @Value("${teamboard.sse.send-timeout-seconds:10}") long sendTimeoutSeconds) {
+        this.teamBoardRepository = teamBoardRepository;
+        this.voteRepository = voteRepository;
+        this.voteTallyRepository = voteTallyRepository;
+        this.currentUserService = currentUserService;
+        this.teamBoardMembershipService = teamBoardMembershipService;
+        this.timeoutMillis = timeoutMillis;
+        this.bufferSize = bufferSize;
+        this.maxSubscribers = maxSubscribers;
+        this.maxSubscribersPerBoard = maxSubscribersPerBoard;
+        this.sendTimeoutNanos = TimeUnit.SECONDS.toNanos(sendTimeoutSeconds);
+        this.dispatcher = Executors.newFixedThreadPool(dispatchThreads);
+        // 연결마다 대기 중인 전송 작업은 최대 하나이므로 작업 대기열은 최대 구독자 수로 제한
+        this.sender = new ThreadPoolExecutor(sendThreads, sendThreads, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(maxSubscribers));
+        this.sender.allowCoreThreadTimeOut(true);
+        this.heartbeatScheduler = Executors.newSingleThreadScheduledExecutor();
+        this.heartbeatScheduler.scheduleAtFixedRate(this::sendHeartbeats, heartbeatSeconds, heartbeatSeconds, TimeUnit.SECONDS);
+    }
+
+    // 팀 메뉴판 변경 이벤트 구독 (구독 직후 현재 현황을 한 번 전송)
+    public SseEmitter subscribe(String providerId, Long teamBoardId) {
+        if (!teamBoardRepository.existsById(teamBoardId)) {
+            throw new TeamBoardNotFoundException("팀 메뉴판을 찾을 수 없습니다.");
+        }
+
+        // 생성자/팀원만 구독 가능 (구독 슬롯을 차지하기 전에 확인)
+        Long userId = currentUserService.findUserId(providerId);
+        if (userId == null || !teamBoardMembershipService.isCreatorOrMember(teamBoardId, userId)) {
+            throw new AccessDeniedException("사용자는 이 팀 보드에 대한 권한이 없습니다.");
+        }
+
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            throw new SubscriberLimitExceededException("동시 구독자 수가 너무 많습니다. 잠시 후 다시 시도해 주세요.");
+        }
+
+        Subscription subscription = new Subscription(teamBoardId, new SseEmitter(timeoutMillis));
+        boolean[] added = {false};
+        subscriptions.compute(teamBoardId, (key, current) -> {
+            Set<Subscription> boardSubscriptions = current != null ? current : ConcurrentHashMap.newKeySet();
+            if (boardSubscriptions.size() < maxSubscribersPerBoard) {
+                added[0] = boardSubscriptions.add(subscription);
+            }
+            return boardSubscriptions.isEmpty() ? null : boardSubscriptions;
+        });
+        if (!added[0]) {
+            subscriberCount.decrementAndGet();
+            throw new SubscriberLimitExceededException("이 팀 메뉴판의 동시 구독자 수가 너무 많습니다.");
+        }
+
+        subscription.emitter.onCompletion(() -> remove(subscription));
+        subscription.emitter.onTimeout(() -> remove(subscription));
+        subscription.emitter.onError(e -> remove(subscription));
+
+        dispatch(() -> {
+            subscription.offer(menuProgressEvent(teamBoardId));
+            subscription.offer(voteProgressEvent(teamBoardId));
+            subscription.offer(voteResultsEvent(teamBoardId));
+        });
+        return subscription.emitter;
+    }
+
+    // 메뉴 추가/투표 변경이 커밋된 후 구독자에게 최신 현황 전송 (구독자가 없으면 조회하지 않음)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTeamBoardChanged(TeamBoardChangedEvent event) {
+        Long teamBoardId = event.getTeamBoardId();
+        if (!hasSubscribers(teamBoardId)) {
+            return;
+        }
+
+        dispatch(() -> {
+            if (event.getType() == TeamBoardChangedEvent.Type.MENU) {
+                broadcast(teamBoardId, menuProgressEvent(teamBoardId));
+            } else {
+                broadcast(teamBoardId, voteProgressEvent(teamBoardId));
+                broadcast(teamBoardId, voteResultsEvent(teamBoardId));
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeatScheduler.shutdownNow();
+        dispatcher.shutdownNow();
+        sender.shutdownNow();
+        subscriptions.values().forEach(boardSubscriptions -> boardSubscriptions.forEach(subscription -> subscription.emitter.complete()));
+        subscriptions.clear();
+    }
+
+    private PendingEvent menuProgressEvent(Long teamBoardId) {
+        Long addedMenuUserCount = teamBoardRepository.countDistinctUsersByTeamBoardId(teamBoardId);
+        Integer teamMembersNum = teamBoardRepository.findTeamMembersNumByTeamBoardId(teamBoardId);
+        return new PendingEvent("menu-progress", new CountMembersNumDTO(addedMenuUserCount, teamMembersNum));
+    }
+
+    private PendingEvent voteProgressEvent(Long teamBoardId) {
+        Long votedUserCount = voteRepository.countDistinctVotedUsersByTeamBoardId(teamBoardId);
+        Integer teamMembersNum = teamBoardRepository.findTeamMembersNumByTeamBoardId(teamBoardId);
+        return new PendingEvent("vote-progress", new CountVotedMembersNumDTO(votedUserCount, teamMembersNum));
+    }
+
+    private PendingEvent voteResultsEvent(Long teamBoardId) {
+        return new PendingEvent("vote-results", voteTallyRepository.findTalliesByTeamBoardId(teamBoardId));
+    }
+
+    private boolean hasSubscribers(Long teamBoardId) {
+        Set<Subscription> boardSubscriptions = subscriptions.get(teamBoardId);
+        return boardSubscriptions != null && !boardSubscriptions.isEmpty();
+    }
+
+    private void broadcast(Long teamBoardId, PendingEvent event) {
+        Set<Subscription> boardSubscriptions = subscriptions.get(teamBoardId);
+        if (boardSubscriptions != null) {
+            boardSubscriptions.forEach(subscription -> subscription.offer(event));
+        }
+    }
+
+    // 하트비트 대기열 추가 (전송이 오래 멈춘 연결은 구독에서 제외하고 닫아 클라이언트가 다시 연결하도록 함)
+    private void sendHeartbeats() {
+        long now = System.nanoTime();
+        subscriptions.values().forEach(boardSubscriptions -> boardSubscriptions.forEach(subscription -> {
+            if (subscription.isSendStalled(now)) {
+                log.debug("전송이 멈춘 SSE 연결을 구독에서 제외합니다. (팀 메뉴판 ID: {})", subscription.teamBoardId);
+                remove(subscription);
+                // 멈춘 전송이 emitter 잠금을 잡고 있을 수 있으므로 하트비트 스레드가 아닌 곳에서 닫음
+                dispatch(subscription.emitter::complete);
+            } else {
+                subscription.offer(PendingEvent.HEARTBEAT);
+            }
+        }));
+    }
+
+    private void dispatch(Runnable task) {
+        try {
+            dispatcher.execute(() -> {
+                try {
+                    task.run();
+                } catch (RuntimeException e) {
+                    log.warn("팀 메뉴판 이벤트 전송 실패", e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.debug("종료 중이므로 팀 메뉴판 이벤트를 전송하지 않습니다.");
+        }
+    }
+
+    private void remove(Subscription subscription) {
+        subscriptions.computeIfPresent(subscription.teamBoardId, (key, current) -> {
+            if (current.remove(subscription)) {
+                subscriberCount.decrementAndGet();
+            }
+            return current.isEmpty() ? null : current;
+        });
+    }
+
+    /**
+     * 하나의 SSE 연결과 전송 대기열입니다.
+     * 대기열이 가득 차면 가장 오래된 이벤트를 버리고, 한 번에 하나의 스레드만 대기열을 비우며 전송합니다.
+     */
+    private class Subscription {
+
+        private final Long teamBoardId;
+        private final SseEmitter emitter;
+        private final Deque<PendingEvent> queue = new ArrayDeque<>();
+        private boolean draining;
+        private volatile long sendStartedAtNanos; // 진행 중인 전송의 시작 시각 (전송 중이 아니면 0)
+
+        private Subscription(Long teamBoardId, SseEmitter emitter) {
+            this.teamBoardId = teamBoardId;
+            this.emitter = emitter;
+        }
+
+        private void offer(PendingEvent event) {
+            synchronized (queue) {
+                if (queue.size() >= bufferSize) {
+                    queue.pollFirst();
+                }
+                queue.addLast(event);
+                if (draining) {
+                    return;
+                }
+                draining = true;
+            }
+            try {
+                sender.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                synchronized (queue) {
+                    draining = false;
+                }
+                log.debug("SSE 전송 대기열이 가득 찼거나 종료 중이므로 이번 전송을 건너뜁니다.");
+            }
+        }
+
+        private boolean isSendStalled(long now) {
+            long startedAt = sendStartedAtNanos;
+            return startedAt != 0 && now - startedAt > sendTimeoutNanos;
+        }
+
+        private void drain() {
+            while (true) {
+                PendingEvent event;
+                synchronized (queue) {
+                    event = queue.pollFirst();
+                    if (event == null) {
+                        draining = false;
+                        return;
+                    }
+                }
+
+                try {
+                    sendStartedAtNanos = System.nanoTime();
+                    emitter.send(event.toSseEvent());
+                } catch (IOException | IllegalStateException e) {
+                    synchronized (queue) {
+                        queue.clear();
+                        draining = false;
+                    }
+                    remove(this);
+                    emitter.completeWithError(e);
+                    return;
+                } finally {
+                    sendStartedAtNanos = 0;
+                }
+            }
+        }
+    }
+
+    /**
+     * 전송 대기 중인 이벤트입니다. (이벤트 이름이 없으면 하트비트 주석)
+     * SseEventBuilder는 전송 시 내부 상태가 바뀌므로 연결마다 전송 직전에 새로 만듭니다.
+     */
+    private record PendingEvent(String name, Object data) {
+
+        private static final PendingEvent HEARTBEAT = new PendingEvent(null, null);
+
+        private SseEmitter.SseEventBuilder toSseEvent() {
+            return name == null ? SseEmitter.event().comment("heartbeat") : SseEmitter.event().name(name).data(data);
+        }
+    }
+}
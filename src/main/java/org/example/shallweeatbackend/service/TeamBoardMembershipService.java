@@ -0,0 +1,63 @@
+package org.example.shallweeatbackend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.example.shallweeatbackend.repository.TeamBoardRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자가 팀 메뉴판의 생성자이거나 팀원인지 확인하는 서비스입니다.
+ * 확인은 (teamboard_id, user_id) 인덱스를 타는 존재 여부 쿼리 한 번으로 하고,
+ * 팀 메뉴판별로 생성자/팀원으로 확인된 사용자 ID를 캐시해 같은 팀 메뉴판의 반복 확인은 쿼리 없이 처리합니다.
+ * 캐시에는 확인된 사용자만 저장하므로 팀원이 추가되어도 기존 항목은 그대로 맞고(새 팀원은 첫 확인 때 추가됨),
+ * 팀 메뉴판이 삭제될 때만 해당 팀 메뉴판 항목을 비웁니다.
+ * 적중/미적중/제거 수는 teamBoardMembership 이름의 메트릭으로 노출됩니다.
+ */
+@Service
+public class TeamBoardMembershipService {
+
+    private final TeamBoardRepository teamBoardRepository;
+    private final Cache<Long, Set<Long>> members; // 팀 메뉴판 ID -> 생성자/팀원으로 확인된 사용자 ID
+
+    public TeamBoardMembershipService(TeamBoardRepository teamBoardRepository, MeterRegistry meterRegistry,
+                                      @Value("${teamboard.membership-cache.max-size:10000}") long maxSize,
+                                      @Value("${teamboard.membership-cache.expire-after-access-minutes:30}") long expireAfterAccessMinutes) {
+        this.teamBoardRepository = teamBoardRepository;
+        this.members = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterAccess(Duration.ofMinutes(expireAfterAccessMinutes))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, members, "teamBoardMembership");
+    }
+
+    // 사용자가 팀 메뉴판의 생성자이거나 팀원인지 확인
+    public boolean isCreatorOrMember(Long teamBoardId, Long userId) {
+        if (teamBoardId == null || userId == null) {
+            return false;
+        }
+
+        Set<Long> confirmedUserIds = members.getIfPresent(teamBoardId);
+        if (confirmedUserIds != null && confirmedUserIds.contains(userId)) {
+            return true;
+        }
+
+        boolean creatorOrMember = teamBoardRepository.existsCreatorOrMember(teamBoardId, userId);
+        if (creatorOrMember) {
+            members.get(teamBoardId, key -> ConcurrentHashMap.newKeySet()).add(userId);
+        }
+        return creatorOrMember;
+    }
+
+    // 팀 메뉴판이 삭제되면 해당 팀 메뉴판의 캐시 비우기
+    public void onTeamBoardDeleted(Long teamBoardId) {
+        members.invalidate(teamBoardId);
+    }
+}
@@ -1,6 +1,7 @@
 package org.example.shallweeatbackend.service;
 
 import jakarta.persistence.EntityNotFoundException;
+import org.example.shallweeatbackend.dto.CatalogMenuDTO;
 import org.example.shallweeatbackend.dto.CategoryMenuDTO;
 import org.example.shallweeatbackend.dto.CountMembersNumDTO;
 import org.example.shallweeatbackend.dto.TeamBoardMenuDTO;
@@ -8,11 +9,13 @@ import org.example.shallweeatbackend.entity.Menu;
 import org.example.shallweeatbackend.entity.TeamBoard;
 import org.example.shallweeatbackend.entity.TeamBoardMenu;
 import org.example.shallweeatbackend.entity.User;
+import org.example.shallweeatbackend.event.TeamBoardChangedEvent;
 import org.example.shallweeatbackend.repository.MenuRepository;
 import org.example.shallweeatbackend.repository.TeamBoardMenuRepository;
 import org.example.shallweeatbackend.repository.TeamBoardRepository;
-import org.example.shallweeatbackend.repository.UserRepository;
+import org.example.shallweeatbackend.util.MenuCatalog;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -28,31 +31,39 @@ public class TeamBoardMenuService {
     private final TeamBoardRepository teamBoardRepository;
     private final TeamBoardMenuRepository teamBoardMenuRepository;
 
-    private final UserRepository userRepository;
+    private final CurrentUserService currentUserService;
+    private final MenuCatalogService menuCatalogService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TeamBoardMembershipService teamBoardMembershipService;
+    private final BoardVersionService boardVersionService;
 
     @Autowired
-    public TeamBoardMenuService(MenuRepository menuRepository, TeamBoardRepository teamBoardRepository, TeamBoardMenuRepository teamBoardMenuRepository, UserRepository userRepository){
+    public TeamBoardMenuService(MenuRepository menuRepository, TeamBoardRepository teamBoardRepository, TeamBoardMenuRepository teamBoardMenuRepository, CurrentUserService currentUserService,
+                                MenuCatalogService menuCatalogService, ApplicationEventPublisher eventPublisher,
+                                TeamBoardMembershipService teamBoardMembershipService, BoardVersionService boardVersionService){
         this.menuRepository = menuRepository;
         this.teamBoardRepository = teamBoardRepository;
         this.teamBoardMenuRepository = teamBoardMenuRepository;
-        this.userRepository = userRepository;
+        this.currentUserService = currentUserService;
+        this.menuCatalogService = menuCatalogService;
+        this.eventPublisher = eventPublisher;
+        this.teamBoardMembershipService = teamBoardMembershipService;
+        this.boardVersionService = boardVersionService;
     }
 
 
     // 팀 메뉴판에 메뉴 생성(추가)
     public List<TeamBoardMenu> addMenusToTeamBoard(String providerId, Long teamBoardId, List<Long> menuIds) {
-        User user = userRepository.findByProviderId(providerId);
+        Long userId = currentUserService.findUserId(providerId);
 
         TeamBoard teamBoard = teamBoardRepository.findById(teamBoardId)
                 .orElseThrow(() -> new EntityNotFoundException("팀 메뉴판을 찾을 수 없습니다."));
         //teamBoard.setUser(user);
 
-        boolean isTeamMember = teamBoard.getTeamMembers().stream()
-                .anyMatch(teamMember -> teamMember.getUser().equals(user));
-
-        if (!isTeamMember && !teamBoard.getUser().equals(user)) {
+        if (userId == null || !teamBoardMembershipService.isCreatorOrMember(teamBoardId, userId)) {
             throw new AccessDeniedException("사용자는 이 팀 보드에 대한 권한이 없습니다.");
         }
+        User user = currentUserService.getReference(userId); // 외래 키로만 사용
 
         List<Menu> menus = menuRepository.findAllById(menuIds);
         if (menus.size() != menuIds.size()) {
@@ -69,43 +80,60 @@ public class TeamBoardMenuService {
                 })
                 .collect(Collectors.toList());
 
-        return teamBoardMenuRepository.saveAll(teamBoardMenus);
+        List<TeamBoardMenu> savedTeamBoardMenus = teamBoardMenuRepository.saveAll(teamBoardMenus);
+        boardVersionService.teamBoardChanged(teamBoardId);
+        eventPublisher.publishEvent(new TeamBoardChangedEvent(teamBoardId, TeamBoardChangedEvent.Type.MENU));
+        return savedTeamBoardMenus;
     }
 
     // 팀 메뉴판에 추가한 메뉴 수정
     public List<TeamBoardMenu> updateMenusInTeamBoard(String providerId, Long teamBoardId, List<Long> menuIds) {
-        User user = userRepository.findByProviderId(providerId);
+        Long userId = currentUserService.findUserId(providerId);
 
-        TeamBoard teamBoard = teamBoardRepository.findById(teamBoardId)
-                .orElseThrow(() -> new EntityNotFoundException("팀 메뉴판을 찾을 수 없습니다."));
+        if (!teamBoardRepository.existsById(teamBoardId)) {
+            throw new EntityNotFoundException("팀 메뉴판을 찾을 수 없습니다.");
+        }
+
+        if (userId == null || !teamBoardMembershipService.isCreatorOrMember(teamBoardId, userId)) {
+            throw new AccessDeniedException("사용자는 이 팀 보드에 대한 권한이 없습니다.");
+        }
 
-        // 팀 메뉴판의 기존 메뉴들을 삭제
-        teamBoardMenuRepository.deleteByTeamBoard(teamBoard);
+        // 사용자가 기존에 추가한 메뉴와 새 메뉴 목록 비교 (다른 팀원이 추가한 메뉴는 건드리지 않음)
+        Set<Long> existingMenuIds = new HashSet<>(teamBoardMenuRepository.findMenuIdsByTeamBoardIdAndUserId(teamBoardId, userId));
+        Set<Long> requestedMenuIds = new LinkedHashSet<>(menuIds);
 
-        // 새로운 메뉴들을 추가
-        List<Menu> menus = menuRepository.findAllById(menuIds);
-        if (menus.size() != menuIds.size()) {
+        List<Long> addedMenuIds = requestedMenuIds.stream()
+                .filter(menuId -> !existingMenuIds.contains(menuId))
+                .collect(Collectors.toList());
+        if (!addedMenuIds.isEmpty() && menuRepository.findAllById(addedMenuIds).size() != addedMenuIds.size()) {
             throw new EntityNotFoundException("일부 메뉴를 찾을 수 없습니다.");
         }
 
-        // 새로운 팀 메뉴판 메뉴를 생성합니다.
-        List<TeamBoardMenu> teamBoardMenus = menus.stream()
-                .map(menu -> {
-                    TeamBoardMenu teamBoardMenu = new TeamBoardMenu();
-                    teamBoardMenu.setTeamBoard(teamBoard);
-                    teamBoardMenu.setMenu(menu);
-                    teamBoardMenu.setUser(user); // 사용자
-                    return teamBoardMenu;
-                })
+        // 빠진 메뉴는 한 번의 DELETE로 삭제
+        List<Long> removedMenuIds = existingMenuIds.stream()
+                .filter(menuId -> !requestedMenuIds.contains(menuId))
                 .collect(Collectors.toList());
+        if (!removedMenuIds.isEmpty()) {
+            teamBoardMenuRepository.deleteAllByTeamBoardIdAndUserIdAndMenuIdIn(teamBoardId, userId, removedMenuIds);
+        }
+
+        // 새로 고른 메뉴만 배치 INSERT로 추가
+        teamBoardMenuRepository.batchInsert(teamBoardId, userId, addedMenuIds);
 
-        // 새로운 메뉴 저장
-        return teamBoardMenuRepository.saveAll(teamBoardMenus);
+        // 바뀐 메뉴가 있을 때만 버전 증가와 변경 알림 (변경 없는 저장은 ETag를 유지)
+        if (!addedMenuIds.isEmpty() || !removedMenuIds.isEmpty()) {
+            boardVersionService.teamBoardChanged(teamBoardId);
+            eventPublisher.publishEvent(new TeamBoardChangedEvent(teamBoardId, TeamBoardChangedEvent.Type.MENU));
+        }
+
+        // 사용자가 추가한 메뉴 목록 반환
+        return teamBoardMenuRepository.findAllWithTeamBoardByTeamBoardIdAndUserId(teamBoardId, userId);
     }
 
 
     public TeamBoardMenuDTO convertToDTO2(TeamBoardMenu teamBoardMenu) {
-        Menu menu = teamBoardMenu.getMenu();
+        // 메뉴 정보는 메뉴 카탈로그에서 조회 (menu 프록시는 ID만 사용하므로 초기화되지 않음)
+        CatalogMenuDTO menu = menuCatalogService.getMenu(teamBoardMenu.getMenu().getMenuId());
         TeamBoard teamBoard = teamBoardMenu.getTeamBoard(); // TeamBoard 객체 가져오기
 
         TeamBoardMenuDTO dto = new TeamBoardMenuDTO();
@@ -114,52 +142,60 @@ public class TeamBoardMenuService {
         dto.setImageUrl(menu.getImageUrl());
         dto.setMenuName(menu.getMenuName());
         dto.setCategoryOptions(menu.getCategoryOptions());
-        dto.setTags(menu.getMenuTags().stream()
-                .map(menuTag -> menuTag.getTag().getName())
-                .collect(Collectors.toList()));
+        dto.setTags(menu.getTags());
         dto.setTeamBoardName(teamBoard.getTeamBoardName()); // teamBoardName 설정
 
         return dto;
     }
 
+    // 여러 팀 메뉴판 메뉴를 DTO로 변환 (메뉴 정보는 메뉴 카탈로그에서 한 번에 조회)
+    public List<TeamBoardMenuDTO> convertToDTOs(List<TeamBoardMenu> teamBoardMenus) {
+        Map<Long, CatalogMenuDTO> menus = menuCatalogService.getMenus(teamBoardMenus.stream()
+                        .map(teamBoardMenu -> teamBoardMenu.getMenu().getMenuId())
+                        .collect(Collectors.toCollection(LinkedHashSet::new)))
+                .stream()
+                .collect(Collectors.toMap(CatalogMenuDTO::getMenuId, Function.identity()));
+
+        List<TeamBoardMenuDTO> dtos = new ArrayList<>(teamBoardMenus.size());
+        for (TeamBoardMenu teamBoardMenu : teamBoardMenus) {
+            CatalogMenuDTO menu = menus.get(teamBoardMenu.getMenu().getMenuId());
+            if (menu == null) {
+                continue; // 삭제된 메뉴
+            }
+
+            TeamBoardMenuDTO dto = new TeamBoardMenuDTO();
+            dto.setTeamBoardMenuId(teamBoardMenu.getTeamBoardMenuId());
+            dto.setMenuId(menu.getMenuId());
+            dto.setImageUrl(menu.getImageUrl());
+            dto.setMenuName(menu.getMenuName());
+            dto.setCategoryOptions(menu.getCategoryOptions());
+            dto.setTags(menu.getTags());
+            dto.setTeamBoardName(teamBoardMenu.getTeamBoard().getTeamBoardName());
+            dtos.add(dto);
+        }
+        return dtos;
+    }
+
     // 팀 메뉴판에 담긴 전체 메뉴 목록 조회
     public List<TeamBoardMenuDTO> getTeamBoardMenuList(Long teamBoardId) {
-        TeamBoard teamBoard = teamBoardRepository.findById(teamBoardId)
-                .orElseThrow(() -> new EntityNotFoundException("팀 메뉴판을 찾을 수 없습니다."));
-
-        return teamBoard.getTeamBoardMenus().stream()
-                .map(this::convertToDTO2)
-                .collect(Collectors.toList());
+        return convertToDTOs(findTeamBoardMenus(teamBoardId));
     }
 
     // 팀 메뉴판에 담긴 전체 메뉴 목록 조회 => 카테고리별 정렬
     public List<CategoryMenuDTO> getGroupedTeamBoardMenuList(Long teamBoardId) {
-        TeamBoard teamBoard = teamBoardRepository.findById(teamBoardId)
-                .orElseThrow(() -> new EntityNotFoundException("팀 메뉴판을 찾을 수 없습니다."));
-
-        // 메뉴를 카테고리별로 그룹화
-        Map<String, List<TeamBoardMenuDTO>> groupedMenu = teamBoard.getTeamBoardMenus().stream()
-                .map(this::convertToDTO2)
-                .collect(Collectors.groupingBy(TeamBoardMenuDTO::getCategoryOptions));
-
-        // 원하는 카테고리 순서
-        List<String> categoryOrder = Arrays.asList("한식", "중식", "일식", "양식", "인도/베트남/태국", "멕시코", "육류/해산물");
+        // 카테고리별로 그룹화하면서 같은 카테고리에 같은 이름의 메뉴가 여러 개면 menuId가 작은 것만 남기기 (한 번의 순회로 처리)
+        Map<String, Map<String, TeamBoardMenuDTO>> groupedMenu = new HashMap<>();
+        for (TeamBoardMenuDTO menuDTO : convertToDTOs(findTeamBoardMenus(teamBoardId))) {
+            groupedMenu.computeIfAbsent(menuDTO.getCategoryOptions(), key -> new LinkedHashMap<>())
+                    .merge(menuDTO.getMenuName(), menuDTO,
+                            (existing, replacement) -> existing.getMenuId() < replacement.getMenuId() ? existing : replacement);
+        }
 
         // 카테고리 순서에 따라 정렬 및 데이터가 있는 카테고리만 응답
-        return categoryOrder.stream()
-                .filter(category -> groupedMenu.containsKey(category)) // 데이터가 있는 카테고리만 필터링
+        return MenuCatalog.CATEGORY_ORDER.stream()
+                .filter(groupedMenu::containsKey) // 데이터가 있는 카테고리만 필터링
                 .map(category -> {
-                    List<TeamBoardMenuDTO> menus = groupedMenu.get(category);
-
-                    // teamboardmenu 식별자가 작은 것만 남기기
-                    Map<String, TeamBoardMenuDTO> uniqueMenuMap = menus.stream()
-                            .collect(Collectors.toMap(
-                                    TeamBoardMenuDTO::getMenuName,
-                                    Function.identity(),
-                                    (existing, replacement) -> existing.getMenuId() < replacement.getMenuId() ? existing : replacement
-                            ));
-
-                    List<CategoryMenuDTO.MenuDTO> menuDTOList = uniqueMenuMap.values().stream().map(menuDTO -> {
+                    List<CategoryMenuDTO.MenuDTO> menuDTOList = groupedMenu.get(category).values().stream().map(menuDTO -> {
                         CategoryMenuDTO.MenuDTO menuItemDTO = new CategoryMenuDTO.MenuDTO();
                         menuItemDTO.setMenuId(menuDTO.getMenuId());
                         menuItemDTO.setImageUrl(menuDTO.getImageUrl());
@@ -176,6 +212,15 @@ public class TeamBoardMenuService {
                 }).collect(Collectors.toList());
     }
 
+    // 팀 메뉴판에 담긴 메뉴를 팀 메뉴판과 함께 한 번의 쿼리로 조회 (결과가 없을 때만 팀 메뉴판 존재 여부 확인)
+    private List<TeamBoardMenu> findTeamBoardMenus(Long teamBoardId) {
+        List<TeamBoardMenu> teamBoardMenus = teamBoardMenuRepository.findAllWithTeamBoardByTeamBoardId(teamBoardId);
+        if (teamBoardMenus.isEmpty() && !teamBoardRepository.existsById(teamBoardId)) {
+            throw new EntityNotFoundException("팀 메뉴판을 찾을 수 없습니다.");
+        }
+        return teamBoardMenus;
+    }
+
 
     public TeamBoardMenuDTO getTeamBoardMenu(Long teamBoardId, Long teamBoardMenuId) {
         TeamBoard teamBoard = teamBoardRepository.findById(teamBoardId)
@@ -1,9 +1,11 @@
 package org.example.shallweeatbackend.service;
 
 
+import org.example.shallweeatbackend.dto.CursorPageDTO;
 import org.example.shallweeatbackend.dto.OneTeamBoardListDTO;
 import org.example.shallweeatbackend.dto.TeamBoardDTO;
 import org.example.shallweeatbackend.dto.TeamBoardListDTO;
+import org.example.shallweeatbackend.dto.TeamBoardListProjection;
 import org.example.shallweeatbackend.entity.*;
 import org.example.shallweeatbackend.exception.TeamBoardNotFoundException;
 import org.example.shallweeatbackend.exception.UnauthorizedException;
@@ -12,7 +14,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Comparator;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -22,19 +24,22 @@ import java.util.stream.Collectors;
 public class TeamBoardService {
 
     private final TeamBoardRepository teamBoardRepository;
-    private final UserRepository userRepository;
-    private final TeamMemberRepository teamMemberRepository;
+    private final CurrentUserService currentUserService;
     private final TeamBoardMenuRepository teamBoardMenuRepository;
-    private final VoteRepository voteRepository;
+    private final TeamBoardMembershipService teamBoardMembershipService;
+    private final BoardVersionService boardVersionService;
+
+    private static final int MAX_PAGE_SIZE = 50;
 
     @Autowired
-    public TeamBoardService(TeamBoardRepository teamBoardRepository, UserRepository userRepository, TeamMemberRepository teamMemberRepository,
-                            TeamBoardMenuRepository teamBoardMenuRepository, VoteRepository voteRepository) {
+    public TeamBoardService(TeamBoardRepository teamBoardRepository, CurrentUserService currentUserService,
+                            TeamBoardMenuRepository teamBoardMenuRepository, TeamBoardMembershipService teamBoardMembershipService,
+                            BoardVersionService boardVersionService) {
         this.teamBoardRepository = teamBoardRepository;
-        this.userRepository = userRepository;
-        this.teamMemberRepository = teamMemberRepository;
+        this.currentUserService = currentUserService;
         this.teamBoardMenuRepository = teamBoardMenuRepository;
-        this.voteRepository = voteRepository;
+        this.teamBoardMembershipService = teamBoardMembershipService;
+        this.boardVersionService = boardVersionService;
     }
 
     // 팀 메뉴판 생성
@@ -42,7 +47,8 @@ public class TeamBoardService {
         if (teamMembersNum < 2 || teamMembersNum > 8) { // 인원수 수정
             throw new IllegalArgumentException("팀 멤버 수는 2명에서 8명 사이여야 합니다.");
         }
-        User user = userRepository.findByProviderId(providerId);
+        // 응답에 생성자 이름/이메일이 필요하므로 엔티티 조회 (토큰의 userId가 있으면 기본 키로 조회)
+        User user = currentUserService.getUser(providerId);
         TeamBoard teamBoard = new TeamBoard();
         teamBoard.setUser(user);
 
@@ -57,12 +63,13 @@ public class TeamBoardService {
 
     // 특정 팀 메뉴판 조회   ****
     public OneTeamBoardListDTO getTeamBoard(String providerId, Long id) {
-        User user = userRepository.findByProviderId(providerId);
+        Long userId = currentUserService.findUserId(providerId);
 
         TeamBoard teamBoard = teamBoardRepository.findById(id)
                 .orElseThrow(() -> new TeamBoardNotFoundException("메뉴판을 찾을 수 없습니다."));
 
-        boolean hasUserAddedMenu = teamBoardMenuRepository.existsByTeamBoardAndUser(teamBoard, user);
+        boolean hasUserAddedMenu = userId != null
+                && teamBoardMenuRepository.existsByTeamBoardAndUser(teamBoard, currentUserService.getReference(userId));
 
         return convertToDTO2(teamBoard, hasUserAddedMenu);
     }
@@ -74,12 +81,12 @@ public class TeamBoardService {
         TeamBoard teamBoard = teamBoardRepository.findById(id)
                 .orElseThrow(() -> new TeamBoardNotFoundException("메뉴판을 찾을 수 없습니다."));
 
-        User user = userRepository.findByProviderId(providerId);
-        boolean isCreator = teamBoard.getUser().equals(user);
-        boolean isMember = teamMemberRepository.existsByTeamBoardAndUser(teamBoard, user);
+        // 생성자 여부는 ID로 비교 (생성자 프록시를 초기화하지 않음)
+        Long userId = currentUserService.findUserId(providerId);
+        boolean isCreator = teamBoard.getUser().getUserId().equals(userId);
 
         // teamBoardName이 null이 아니고, 사용자가 생성자(호스트)이거나 팀원인 경우에만 teamBoardName 수정
-        if (teamBoardName != null && (isCreator || isMember)) {
+        if (teamBoardName != null && (isCreator || (userId != null && teamBoardMembershipService.isCreatorOrMember(id, userId)))) {
             teamBoard.setTeamBoardName(teamBoardName);
         }
 
@@ -100,6 +107,7 @@ public class TeamBoardService {
         }
 
         TeamBoard updatedTeamBoard = teamBoardRepository.save(teamBoard);
+        boardVersionService.teamBoardChanged(id);
         return convertToDTO(updatedTeamBoard);
     }
 
@@ -107,6 +115,7 @@ public class TeamBoardService {
     public void deleteTeamBoard(Long id) {
         if (teamBoardRepository.existsById(id)) {
             teamBoardRepository.deleteById(id);
+            teamBoardMembershipService.onTeamBoardDeleted(id);
         } else {
             throw new TeamBoardNotFoundException("메뉴판을 찾을 수 없습니다. (메뉴판 ID: " + id + ")");
         }
@@ -114,30 +123,39 @@ public class TeamBoardService {
 
     // 사용자 별 팀 메뉴판 전체 목록 조회
     public List<TeamBoardListDTO> getUserTeamBoards(String providerId) {
-        User user = userRepository.findByProviderId(providerId);
-        Long userId = user.getUserId();
+        Long userId = currentUserService.getUserId(providerId);
 
-        // 사용자가 생성한 팀보드 가져오기
-        List<TeamBoardListDTO> createdTeamBoards = teamBoardRepository.findByUserUserId(userId)
+        // 사용자가 생성했거나 팀원으로 참여하고 있는 팀보드를 한 번의 쿼리로 조회 (teamBoardId 내림차순)
+        return teamBoardRepository.findTeamBoardListByUserId(userId)
                 .stream()
-                .map(teamBoard -> convertToListDTO(teamBoard, user))
+                .map(this::convertToListDTO)
                 .collect(Collectors.toList());
+    }
 
-        // 사용자가 팀원으로 참여하고 있는 팀보드 가져오기
-        List<TeamBoardListDTO> memberTeamBoards = teamMemberRepository.findByUserUserId(userId)
-                .stream()
-                .map(TeamMember::getTeamBoard)
-                .map(teamBoard -> convertToListDTO(teamBoard, user))
-                .collect(Collectors.toList());
+    // 사용자 별 팀 메뉴판 목록을 최신 메뉴판부터 limit개씩 조회 (after: 이전 페이지의 nextCursor)
+    public CursorPageDTO<TeamBoardListDTO> getUserTeamBoards(String providerId, Long after, int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("limit은 1에서 " + MAX_PAGE_SIZE + " 사이여야 합니다.");
+        }
+        Long userId = currentUserService.getUserId(providerId);
 
-        createdTeamBoards.addAll(memberTeamBoards);
+        // 생성한 팀보드와 참여한 팀보드의 ID를 DB에서 합쳐 정렬한 뒤 다음 페이지 존재 여부를 알기 위해 limit + 1개 조회
+        List<Long> teamBoardIds = teamBoardRepository.findTeamBoardIdsByUserId(userId, after == null ? Long.MAX_VALUE : after, limit + 1);
 
-        createdTeamBoards.sort(Comparator.comparing(TeamBoardListDTO::getTeamBoardId).reversed());
+        Long nextCursor = null;
+        if (teamBoardIds.size() > limit) {
+            teamBoardIds = teamBoardIds.subList(0, limit);
+            nextCursor = teamBoardIds.get(limit - 1);
+        }
 
-        return createdTeamBoards;
+        List<TeamBoardListDTO> teamBoards = teamBoardIds.isEmpty() ? new ArrayList<>() : teamBoardRepository.findTeamBoardListByTeamBoardIdIn(userId, teamBoardIds)
+                .stream()
+                .map(this::convertToListDTO)
+                .collect(Collectors.toList());
+        return new CursorPageDTO<>(teamBoards, nextCursor);
     }
 
-    private TeamBoardListDTO convertToListDTO(TeamBoard teamBoard, User user) {
+    private TeamBoardListDTO convertToListDTO(TeamBoardListProjection teamBoard) {
         TeamBoardListDTO dto = new TeamBoardListDTO();
         dto.setTeamBoardId(teamBoard.getTeamBoardId());
         dto.setTeamBoardName(teamBoard.getTeamBoardName());
@@ -145,12 +163,12 @@ public class TeamBoardService {
         dto.setTeamMembersNum(teamBoard.getTeamMembersNum());
         dto.setCreatedDate(teamBoard.getCreatedDate());
         dto.setModifiedDate(teamBoard.getModifiedDate());
-        dto.setHasUserAddedMenu(teamBoardMenuRepository.existsByTeamBoardAndUser(teamBoard, user));
-        dto.setVoted(voteRepository.existsByTeamBoardAndUser(teamBoard, user));
+        dto.setHasUserAddedMenu(Boolean.TRUE.equals(teamBoard.getHasUserAddedMenu()));
+        dto.setVoted(Boolean.TRUE.equals(teamBoard.getVoted()));
 
         // 모든 사용자가 메뉴를 추가했는지 여부 설정
         int totalMembers = teamBoard.getTeamMembersNum();
-        int menuAddedUsers = teamBoardMenuRepository.countDistinctUsersByTeamBoard(teamBoard);
+        long menuAddedUsers = teamBoard.getMenuAddedUserCount() == null ? 0 : teamBoard.getMenuAddedUserCount();
         dto.setAllPeopleAdded(totalMembers == menuAddedUsers);
 
         return dto;
@@ -4,97 +4,103 @@ import org.example.shallweeatbackend.dto.TeamMemberDTO;
 import org.example.shallweeatbackend.entity.TeamBoard;
 import org.example.shallweeatbackend.entity.TeamMember;
 import org.example.shallweeatbackend.entity.User;
-import org.example.shallweeatbackend.exception.UserNotFoundException;
 import org.example.shallweeatbackend.repository.TeamBoardRepository;
 import org.example.shallweeatbackend.repository.TeamMemberRepository;
-import org.example.shallweeatbackend.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Optional;
-
 @Service
 @Transactional
 public class TeamMemberService {
 
     private final TeamBoardRepository teamBoardRepository;
-    private final UserRepository userRepository;
+    private final CurrentUserService currentUserService;
     private final TeamMemberRepository teamMemberRepository;
+    private final TeamBoardMembershipService teamBoardMembershipService;
 
     @Autowired
-    public TeamMemberService(TeamBoardRepository teamBoardRepository, UserRepository userRepository, TeamMemberRepository teamMemberRepository) {
+    public TeamMemberService(TeamBoardRepository teamBoardRepository, CurrentUserService currentUserService, TeamMemberRepository teamMemberRepository,
+                             TeamBoardMembershipService teamBoardMembershipService) {
         this.teamBoardRepository = teamBoardRepository;
-        this.userRepository = userRepository;
+        this.currentUserService = currentUserService;
         this.teamMemberRepository = teamMemberRepository;
+        this.teamBoardMembershipService = teamBoardMembershipService;
     }
 
 
     // 토큰으로 사용자 검증 후 팀메뉴판을 입력받아 team_member 테이블로 저장시키는 로직
+    // 정원 확인과 팀원 수 증가는 조건부 UPDATE 한 번으로, 중복 참여는 (teamboard_id, user_id) 유니크 제약으로 막아
+    // 동시에 여러 명이 참여해도 정원을 넘지 않습니다. (실패하면 트랜잭션이 롤백되어 팀원 수 증가도 취소됨)
+    // 참여는 한 문장이 아니라 한 트랜잭션 안의 조건부 UPDATE + INSERT 두 문장입니다.
+    // MySQL은 INSERT ... SELECT 한 문장으로 다른 테이블(teamboard)의 팀원 수를 함께 올릴 수 없고,
+    // UPDATE가 먼저 팀 메뉴판 행을 잠가야 같은 팀 메뉴판의 참여가 순서대로 처리되므로 의도적으로 두 문장으로 나눕니다.
+    // 사용자 조회는 대부분 UserLookupCache에서 끝나며, 거절 사유 조회는 UPDATE가 실패한 경우에만 실행됩니다.
     public TeamMemberDTO addMember(String providerId, Long teamBoardId) {
-        User user = userRepository.findByProviderId(providerId);
-        if (user == null) {
-            throw new UserNotFoundException("사용자를 찾을 수 없습니다.");
-        }
-
-        // 팀 메뉴판 존재하는지 확인
-        TeamBoard teamBoard = teamBoardRepository.findById(teamBoardId)
-                .orElseThrow(() -> new IllegalArgumentException("팀 메뉴판을 찾을 수 없습니다."));
+        // 응답에 필요한 사용자 이름은 캐시된 사용자 정보에서, 팀원 저장에는 외래 키용 프록시 사용
+        UserLookupCache.Profile profile = currentUserService.getProfile(providerId);
+        User user = currentUserService.getReference(profile.userId());
 
-        // 팀의 생성자인지 확인(생성자는 팀원으로 존재x)
-        if (user.equals(teamBoard.getUser())) {
-            throw new IllegalStateException("해당 사용자는 팀의 생성자로, 팀원으로 초대될 수 없습니다.");
-        }
-
-        // TeamBoard에 사용자가 이미 포함되어 있는지 확인
-        Optional<TeamMember> existingMember = teamMemberRepository.findByUserAndTeamBoard(user, teamBoard);
-        if (existingMember.isPresent()) {
-            throw new IllegalStateException("사용자는 이미 해당 팀 메뉴판에 포함되어 있습니다.");
-        }
-
-        // 팀의 현재 멤버 수 확인
-        int currentTeamMembers = teamMemberRepository.countByTeamBoard(teamBoard);
-        int maxTeamMembers = teamBoard.getTeamMembersNum() - 1; // 팀 호스트 제외
-
-        // 팀의 최대 인원수를 초과하는지 확인
-        if (currentTeamMembers >= maxTeamMembers) {
-            throw new IllegalStateException("팀의 최대 인원수를 초과했습니다.");
+        // 정원이 남아 있으면 팀원 수 증가 (팀 메뉴판 행 잠금으로 같은 팀 메뉴판의 참여가 순서대로 처리됨)
+        if (teamBoardRepository.incrementMemberCountIfAvailable(teamBoardId, user.getUserId()) == 0) {
+            throw joinRejectedException(teamBoardId, user);
         }
 
+        TeamBoard teamBoard = teamBoardRepository.getReferenceById(teamBoardId);
         TeamMember teamMember = new TeamMember();
         teamMember.setUser(user);
         teamMember.setTeamBoard(teamBoard);
-        teamMemberRepository.save(teamMember);
+        try {
+            teamMemberRepository.saveAndFlush(teamMember);
+        } catch (DataIntegrityViolationException e) {
+            throw new IllegalStateException("사용자는 이미 해당 팀 메뉴판에 포함되어 있습니다.");
+        }
 
         return new TeamMemberDTO(
                 teamMember.getTeamMemberId(),
                 teamBoard.getTeamBoardId(),
                 teamBoard.getTeamBoardName(),
-                user.getUserId(),
-                user.getName()
+                profile.userId(),
+                profile.name()
         );
     }
 
+    // 팀원 수를 증가시키지 못한 이유 확인 (실패한 경우에만 조회)
+    private RuntimeException joinRejectedException(Long teamBoardId, User user) {
+        // 팀 메뉴판 존재하는지 확인
+        TeamBoard teamBoard = teamBoardRepository.findById(teamBoardId).orElse(null);
+        if (teamBoard == null) {
+            return new IllegalArgumentException("팀 메뉴판을 찾을 수 없습니다.");
+        }
+
+        // 팀의 생성자인지 확인(생성자는 팀원으로 존재x)
+        if (user.getUserId().equals(teamBoard.getUser().getUserId())) {
+            return new IllegalStateException("해당 사용자는 팀의 생성자로, 팀원으로 초대될 수 없습니다.");
+        }
+
+        // TeamBoard에 사용자가 이미 포함되어 있는지 확인
+        if (teamMemberRepository.existsByTeamBoardAndUser(teamBoard, user)) {
+            return new IllegalStateException("사용자는 이미 해당 팀 메뉴판에 포함되어 있습니다.");
+        }
+        return new IllegalStateException("팀의 최대 인원수를 초과했습니다.");
+    }
+
 
     // 팀 메뉴판 포함 여부 검증
     public boolean isUserInTeam(String providerId, Long teamBoardId) {
-        User user = userRepository.findByProviderId(providerId);
-        if (user == null) {
-            throw new UserNotFoundException("사용자를 찾을 수 없습니다.");
-        }
-
-        // 팀 메뉴판 존재하는지 확인
-        TeamBoard teamBoard = teamBoardRepository.findById(teamBoardId)
-                .orElseThrow(() -> new IllegalArgumentException("팀 메뉴판을 찾을 수 없습니다."));
+        Long userId = currentUserService.getUserId(providerId);
 
-        // 팀의 생성자인지 확인
-        if (user.equals(teamBoard.getUser())) {
+        // 팀의 생성자이거나 TeamBoard에 사용자가 이미 포함되어 있는지 확인
+        if (teamBoardMembershipService.isCreatorOrMember(teamBoardId, userId)) {
             return true;
         }
 
-        // TeamBoard에 사용자가 이미 포함되어 있는지 확인
-        Optional<TeamMember> existingMember = teamMemberRepository.findByUserAndTeamBoard(user, teamBoard);
-        return existingMember.isPresent();
+        // 팀 메뉴판 존재하는지 확인
+        if (!teamBoardRepository.existsById(teamBoardId)) {
+            throw new IllegalArgumentException("팀 메뉴판을 찾을 수 없습니다.");
+        }
+        return false;
     }
 
 
@@ -0,0 +1,95 @@
+package org.example.shallweeatbackend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.example.shallweeatbackend.entity.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * providerId로 찾은 사용자 정보 캐시입니다.
+ * 사용자 테이블은 다른 어떤 테이블보다 자주 읽히고 대부분 같은 사용자를 반복해서 읽으므로,
+ * 한 요청 안에서는 요청 속성에 저장해 같은 사용자를 두 번 조회하지 않고,
+ * 요청 사이에서는 짧은 시간 동안 프로세스 전체에서 재사용합니다.
+ * 로그인 시 이름/이메일이 바뀌면 해당 항목을 비우며, 다른 인스턴스는 만료 시간이 지나면 새 정보를 읽습니다.
+ * 적중/미적중/제거 수는 userLookup 이름의 메트릭으로 노출됩니다.
+ */
+@Component
+public class UserLookupCache {
+
+    private static final String REQUEST_ATTRIBUTE = UserLookupCache.class.getName() + ".profiles";
+
+    private final Cache<String, Profile> cache; // providerId -> 사용자 정보
+
+    public UserLookupCache(MeterRegistry meterRegistry,
+                           @Value("${user.lookup-cache.max-size:10000}") long maxSize,
+                           @Value("${user.lookup-cache.expire-after-write-seconds:60}") long expireAfterWriteSeconds) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(expireAfterWriteSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "userLookup");
+    }
+
+    // providerId의 사용자 정보 조회 (요청 속성 -> 프로세스 캐시 -> loader 순서, 사용자가 없으면 null이며 저장하지 않음)
+    public Profile get(String providerId, Function<String, User> loader) {
+        Map<String, Profile> requestProfiles = requestProfiles();
+        Profile profile = requestProfiles != null ? requestProfiles.get(providerId) : null;
+        if (profile != null) {
+            return profile;
+        }
+
+        profile = cache.get(providerId, key -> {
+            User user = loader.apply(key);
+            return user == null ? null : Profile.from(user);
+        });
+        if (profile != null && requestProfiles != null) {
+            requestProfiles.put(providerId, profile);
+        }
+        return profile;
+    }
+
+    // 사용자 정보가 바뀌면 캐시 비우기 (현재 요청에 저장된 정보 포함)
+    public void invalidate(String providerId) {
+        cache.invalidate(providerId);
+        Map<String, Profile> requestProfiles = requestProfiles();
+        if (requestProfiles != null) {
+            requestProfiles.remove(providerId);
+        }
+    }
+
+    // 현재 요청의 사용자 정보 저장소 (HTTP 요청 밖에서 호출되면 null)
+    @SuppressWarnings("unchecked")
+    private Map<String, Profile> requestProfiles() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        Map<String, Profile> profiles = (Map<String, Profile>) attributes.getAttribute(REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (profiles == null) {
+            profiles = new HashMap<>();
+            attributes.setAttribute(REQUEST_ATTRIBUTE, profiles, RequestAttributes.SCOPE_REQUEST);
+        }
+        return profiles;
+    }
+
+    /**
+     * 캐시에 저장하는 사용자 정보입니다. 여러 요청이 함께 사용하므로 엔티티 대신 변경할 수 없는 값으로 저장합니다.
+     */
+    public record Profile(Long userId, String providerId, String name, String email, String role) {
+
+        static Profile from(User user) {
+            return new Profile(user.getUserId(), user.getProviderId(), user.getName(), user.getEmail(), user.getRole());
+        }
+    }
+}
@@ -2,21 +2,19 @@ package org.example.shallweeatbackend.service;
 
 import lombok.RequiredArgsConstructor;
 import org.example.shallweeatbackend.dto.CustomOAuth2User;
-import org.example.shallweeatbackend.entity.User;
-import org.example.shallweeatbackend.repository.UserRepository;
 import org.springframework.stereotype.Service;
 
 @Service
 @RequiredArgsConstructor
 public class UserService {
 
-    private final UserRepository userRepository;
+    private final CurrentUserService currentUserService;
 
     public String getUsername(CustomOAuth2User principal) {
-        String providerId = principal.getProviderId();
-        User user = userRepository.findByProviderId(providerId);
-        if (user != null) {
-            return user.getName();
+        // 캐시된 사용자 정보에서 이름 조회
+        UserLookupCache.Profile profile = currentUserService.findProfile(principal.getProviderId());
+        if (profile != null) {
+            return profile.name();
         }
         return null;
     }
@@ -0,0 +1,76 @@
+package org.example.shallweeatbackend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.example.shallweeatbackend.util.JwtClaims;
+import org.example.shallweeatbackend.util.TokenDigest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.function.Function;
+
+/**
+ * 서명 검증을 마친 JWT의 클레임 캐시입니다.
+ * 모바일 클라이언트는 같은 access 토큰으로 짧은 시간에 많은 요청을 보내므로,
+ * 토큰의 SHA-256 다이제스트를 키로 검증된 클레임을 저장해 반복 요청은 서명 검증 없이 처리합니다.
+ * 토큰 원문은 저장하지 않으며, 각 항목은 최대 보관 시간과 토큰의 만료 시각 중 더 이른 시각에 만료됩니다.
+ * 최대 크기를 넘으면 오래 사용되지 않은 항목부터 제거하고, 적중/미적중/제거 수는 verifiedToken 이름의 메트릭으로 노출됩니다.
+ * jwt.token-cache.enabled=false 이면 캐시 없이 매번 검증합니다.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final boolean enabled;
+    private final Cache<String, JwtClaims> cache; // 토큰 다이제스트 -> 검증된 클레임
+
+    public VerifiedTokenCache(MeterRegistry meterRegistry,
+                              @Value("${jwt.token-cache.enabled:true}") boolean enabled,
+                              @Value("${jwt.token-cache.max-size:10000}") long maxSize,
+                              @Value("${jwt.token-cache.max-ttl-seconds:300}") long maxTtlSeconds) {
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new TokenExpiry(Duration.ofSeconds(maxTtlSeconds)))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "verifiedToken");
+    }
+
+    // 토큰의 검증된 클레임 조회 (없으면 verifier로 검증 후 저장, 검증 실패 시 예외는 그대로 전달되고 저장하지 않음)
+    public JwtClaims get(String token, Function<String, JwtClaims> verifier) {
+        if (!enabled) {
+            return verifier.apply(token);
+        }
+        return cache.get(TokenDigest.sha256Hex(token), key -> verifier.apply(token));
+    }
+
+    /**
+     * 항목별 만료 시간입니다. 최대 보관 시간과 토큰 만료까지 남은 시간 중 짧은 쪽을 사용합니다.
+     */
+    private record TokenExpiry(Duration maxTtl) implements Expiry<String, JwtClaims> {
+
+        @Override
+        public long expireAfterCreate(String key, JwtClaims claims, long currentTime) {
+            Duration untilExpiration = Duration.between(Instant.now(), claims.expiration());
+            if (untilExpiration.isNegative()) {
+                return 0;
+            }
+            return Math.min(maxTtl.toNanos(), untilExpiration.toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, JwtClaims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String key, JwtClaims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
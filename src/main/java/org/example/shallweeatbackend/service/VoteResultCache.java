@@ -0,0 +1,72 @@
+package org.example.shallweeatbackend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.example.shallweeatbackend.event.TeamBoardChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 팀 메뉴판 투표 결과 캐시입니다.
+ * 투표가 끝나면 팀원들이 거의 동시에 같은 팀 메뉴판의 결과를 조회하므로,
+ * 같은 팀 메뉴판에 대한 동시 조회는 하나의 계산 결과를 기다려 함께 사용하고(single-flight) 짧은 시간 동안 재사용합니다.
+ * 투표 생성/수정/삭제가 커밋되면 해당 팀 메뉴판 항목을 비웁니다.
+ * 적중/미적중/제거 수는 voteResults 이름의 메트릭으로 노출됩니다.
+ */
+@Component
+public class VoteResultCache {
+
+    private final Cache<Long, Snapshot> cache;
+
+    public VoteResultCache(MeterRegistry meterRegistry,
+                           @Value("${vote.result-cache.max-size:1000}") long maxSize,
+                           @Value("${vote.result-cache.expire-after-write-seconds:5}") long expireAfterWriteSeconds) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(expireAfterWriteSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "voteResults");
+    }
+
+    // 팀 메뉴판의 투표 결과 조회 (없으면 계산 후 저장, 같은 팀 메뉴판을 계산 중이면 그 결과를 기다림)
+    public Snapshot get(Long teamBoardId, Function<Long, Snapshot> loader) {
+        return cache.get(teamBoardId, loader);
+    }
+
+    // 투표 변경이 커밋되면 해당 팀 메뉴판의 캐시 비우기
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTeamBoardChanged(TeamBoardChangedEvent event) {
+        if (event.getType() == TeamBoardChangedEvent.Type.VOTE) {
+            cache.invalidate(event.getTeamBoardId());
+        }
+    }
+
+    /**
+     * 팀 메뉴판의 투표 결과입니다. 여러 요청이 함께 사용하므로 변경할 수 없는 값으로만 구성합니다.
+     * 사용자별 투표 여부는 투표한 사용자 ID 집합으로 확인합니다.
+     */
+    public record Snapshot(String teamName, List<Map<String, Object>> votes, String voteDate, Set<Long> voterIds) {
+
+        public Snapshot {
+            votes = votes.stream().map(vote -> Collections.unmodifiableMap(new HashMap<>(vote))).toList();
+            voterIds = Set.copyOf(voterIds);
+        }
+
+        public boolean hasVoted(Long userId) {
+            return voterIds.contains(userId);
+        }
+    }
+}
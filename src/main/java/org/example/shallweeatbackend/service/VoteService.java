@@ -3,9 +3,13 @@ package org.example.shallweeatbackend.service;
 import lombok.RequiredArgsConstructor;
 import org.example.shallweeatbackend.dto.CountVotedMembersNumDTO;
 import org.example.shallweeatbackend.dto.VoteDTO;
+import org.example.shallweeatbackend.dto.VoteTallyDTO;
 import org.example.shallweeatbackend.entity.*;
+import org.example.shallweeatbackend.event.TeamBoardChangedEvent;
 import org.example.shallweeatbackend.exception.*;
 import org.example.shallweeatbackend.repository.*;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,128 +26,163 @@ public class VoteService {
     private final TeamBoardRepository teamBoardRepository;
     private final TeamBoardMenuRepository teamBoardMenuRepository;
     private final MenuRepository menuRepository;
-    private final UserRepository userRepository;
-    private final TeamMemberRepository teamMemberRepository;
+    private final CurrentUserService currentUserService;
+    private final TeamBoardMembershipService teamBoardMembershipService;
+    private final VoteTallyRepository voteTallyRepository;
+    private final UserVoteCountRepository userVoteCountRepository;
+    private final VoteResultCache voteResultCache;
+    private final BoardVersionService boardVersionService;
+    private final ApplicationEventPublisher eventPublisher;
 
     private static final int MAX_VOTES_PER_USER = 3;
 
     public List<VoteDTO> createVotes(String providerId, Long teamBoardId, List<Long> menuIds) {
-        User user = userRepository.findByProviderId(providerId);
+        Long userId = currentUserService.findUserId(providerId);
         TeamBoard teamBoard = teamBoardRepository.findById(teamBoardId)
                 .orElseThrow(() -> new TeamBoardNotFoundException("팀 보드를 찾을 수 없습니다."));
 
-        if (!teamMemberRepository.existsByTeamBoardAndUser(teamBoard, user) && !teamBoard.getUser().equals(user)) {
+        if (userId == null || !teamBoardMembershipService.isCreatorOrMember(teamBoardId, userId)) {
             throw new UnauthorizedVoteException("팀 메뉴판에 초대된 사람들만 투표할 수 있습니다.");
         }
+        User user = currentUserService.getReference(userId); // 외래 키로만 사용
 
-        List<VoteDTO> voteDTOs = new ArrayList<>();
+        // 필요한 데이터를 메뉴 수와 관계없이 고정된 수의 쿼리로 조회
+        Set<Long> requestedMenuIds = new LinkedHashSet<>(menuIds);
+        Map<Long, Menu> menus = menuRepository.findAllById(requestedMenuIds).stream()
+                .collect(Collectors.toMap(Menu::getMenuId, menu -> menu));
+        Map<Long, Long> lowestTeamBoardMenuIds = findLowestTeamBoardMenuIds(teamBoardId, requestedMenuIds);
 
+        // 요청 순서대로 메모리에서 검증 (메뉴 존재, 요청 안의 중복 메뉴, 팀 보드 메뉴 존재)
+        Set<Long> votedMenuIds = new HashSet<>();
+        List<Vote> votes = new ArrayList<>();
         for (Long menuId : menuIds) {
-            Menu menu = menuRepository.findById(menuId)
-                    .orElseThrow(() -> new MenuNotFoundException("메뉴를 찾을 수 없습니다."));
-
-            long voteCount = voteRepository.countByUserUserIdAndTeamBoardTeamBoardId(user.getUserId(), teamBoardId);
-            if (voteCount >= MAX_VOTES_PER_USER) {
-                throw new VoteLimitExceededException("한 사람당 최대 3개의 메뉴에만 투표할 수 있습니다.");
+            Menu menu = menus.get(menuId);
+            if (menu == null) {
+                throw new MenuNotFoundException("메뉴를 찾을 수 없습니다.");
             }
 
-            // 이미 투표한 메뉴인지 확인
-            boolean alreadyVoted = voteRepository.existsByUserUserIdAndTeamBoardTeamBoardIdAndMenuMenuId(user.getUserId(), teamBoardId, menuId);
-            if (alreadyVoted) {
+            if (!votedMenuIds.add(menuId)) {
                 throw new DuplicateVoteException("이미 이 메뉴에 투표하셨습니다.");
             }
 
-            // teamBoard와 menu에 대해 teamBoardMenuId가 가장 낮은 항목 찾기
-            TeamBoardMenu teamBoardMenu = teamBoardMenuRepository.findByTeamBoardAndMenu(teamBoard, menu)
-                    .stream()
-                    .min(Comparator.comparing(TeamBoardMenu::getTeamBoardMenuId))
-                    .orElseThrow(() -> new TeamBoardMenuNotFoundException("팀 보드 메뉴를 찾을 수 없습니다."));
+            // teamBoard와 menu에 대해 teamBoardMenuId가 가장 낮은 항목
+            Long teamBoardMenuId = lowestTeamBoardMenuIds.get(menuId);
+            if (teamBoardMenuId == null) {
+                throw new TeamBoardMenuNotFoundException("팀 보드 메뉴를 찾을 수 없습니다.");
+            }
 
             Vote vote = new Vote();
             vote.setUser(user);
             vote.setTeamBoard(teamBoard);
             vote.setMenu(menu);
-            vote.setTeamBoardMenu(teamBoardMenu);
+            vote.setTeamBoardMenu(teamBoardMenuRepository.getReferenceById(teamBoardMenuId));
+            votes.add(vote);
+        }
 
-            Vote savedVote = voteRepository.save(vote);
-            voteDTOs.add(convertToDTO(savedVote));
+        // 투표 수 제한과 중복 투표는 DB에서 확인 (조건부 UPDATE와 유니크 제약, 실패하면 트랜잭션 전체 롤백)
+        reserveVotes(teamBoardId, userId, votes.size());
+        insertVotes(votes);
+        for (Vote vote : votes) {
+            voteTallyRepository.adjustVoteCount(teamBoardId, vote.getMenu().getMenuId(), 1);
         }
+        boardVersionService.teamBoardChanged(teamBoardId);
+        eventPublisher.publishEvent(new TeamBoardChangedEvent(teamBoardId, TeamBoardChangedEvent.Type.VOTE));
 
-        return voteDTOs;
+        return votes.stream()
+                .map(this::convertToDTO)
+                .collect(Collectors.toList());
     }
 
     public List<VoteDTO> updateVotes(String providerId, Long teamBoardId, List<Long> menuIds) {
-        User user = userRepository.findByProviderId(providerId);
+        Long userId = currentUserService.getUserId(providerId);
+        User user = currentUserService.getReference(userId); // 외래 키로만 사용
         TeamBoard teamBoard = teamBoardRepository.findById(teamBoardId)
                 .orElseThrow(() -> new TeamBoardNotFoundException("팀 보드를 찾을 수 없습니다."));
 
-        // 기존 투표 삭제
-        List<Vote> existingVotes = voteRepository.findByUserUserIdAndTeamBoardTeamBoardId(user.getUserId(), teamBoardId);
-        voteRepository.deleteAll(existingVotes);
+        // 기존 투표와 새 메뉴 목록 비교 (메뉴와 팀 보드 메뉴는 함께 조회)
+        List<Vote> existingVotes = voteRepository.findAllWithMenuByUserIdAndTeamBoardId(userId, teamBoardId);
+        Set<Long> requestedMenuIds = new LinkedHashSet<>(menuIds);
+        if (requestedMenuIds.size() != menuIds.size()) {
+            throw new DuplicateVoteException("이미 이 메뉴에 투표하셨습니다.");
+        }
 
-        // 새로운 투표 생성
-        List<VoteDTO> updatedVoteDTOs = new ArrayList<>();
-        for (Long menuId : menuIds) {
-            Menu menu = menuRepository.findById(menuId)
-                    .orElseThrow(() -> new MenuNotFoundException("메뉴를 찾을 수 없습니다."));
+        Map<Long, Vote> keptVotes = new HashMap<>();
+        List<Vote> removedVotes = new ArrayList<>();
+        for (Vote existingVote : existingVotes) {
+            if (requestedMenuIds.contains(existingVote.getMenu().getMenuId())) {
+                keptVotes.put(existingVote.getMenu().getMenuId(), existingVote);
+            } else {
+                removedVotes.add(existingVote);
+            }
+        }
+        List<Long> addedMenuIds = requestedMenuIds.stream()
+                .filter(menuId -> !keptVotes.containsKey(menuId))
+                .collect(Collectors.toList());
+
+        // 새로 고른 메뉴만 검증 (메뉴 존재, 팀 보드 메뉴 존재)
+        Map<Long, Menu> menus = addedMenuIds.isEmpty() ? Map.of() : menuRepository.findAllById(addedMenuIds).stream()
+                .collect(Collectors.toMap(Menu::getMenuId, menu -> menu));
+        Map<Long, Long> lowestTeamBoardMenuIds = findLowestTeamBoardMenuIds(teamBoardId, addedMenuIds);
+        List<Vote> addedVotes = new ArrayList<>();
+        for (Long menuId : addedMenuIds) {
+            Menu menu = menus.get(menuId);
+            if (menu == null) {
+                throw new MenuNotFoundException("메뉴를 찾을 수 없습니다.");
+            }
 
-            TeamBoardMenu teamBoardMenu = teamBoardMenuRepository.findByTeamBoardAndMenu(teamBoard, menu)
-                    .stream()
-                    .min(Comparator.comparing(TeamBoardMenu::getTeamBoardMenuId))
-                    .orElseThrow(() -> new TeamBoardMenuNotFoundException("팀 보드 메뉴를 찾을 수 없습니다."));
+            Long teamBoardMenuId = lowestTeamBoardMenuIds.get(menuId);
+            if (teamBoardMenuId == null) {
+                throw new TeamBoardMenuNotFoundException("팀 보드 메뉴를 찾을 수 없습니다.");
+            }
 
             Vote vote = new Vote();
             vote.setUser(user);
             vote.setTeamBoard(teamBoard);
             vote.setMenu(menu);
-            vote.setTeamBoardMenu(teamBoardMenu);
-
-            Vote savedVote = voteRepository.save(vote);
-            updatedVoteDTOs.add(convertToDTO(savedVote));
+            vote.setTeamBoardMenu(teamBoardMenuRepository.getReferenceById(teamBoardMenuId));
+            addedVotes.add(vote);
         }
 
-        return updatedVoteDTOs;
-    }
-
-    public Map<String, Object> getVoteResults(Long teamBoardId, String providerId) {
-        TeamBoard teamBoard = teamBoardRepository.findById(teamBoardId)
-                .orElseThrow(() -> new TeamBoardNotFoundException("팀 보드를 찾을 수 없습니다."));
-
-        User user = userRepository.findByProviderId(providerId);
-        if (user == null) {
-            throw new UserNotFoundException("사용자를 찾을 수 없습니다.");
+        // 빠진 투표는 한 번의 DELETE로 삭제하고, 새로 고른 메뉴만 배치 INSERT로 추가
+        if (!removedVotes.isEmpty()) {
+            voteRepository.deleteAllByVoteIdIn(removedVotes.stream().map(Vote::getVoteId).collect(Collectors.toList()));
+            userVoteCountRepository.releaseVotes(teamBoardId, userId, removedVotes.size());
+            for (Vote removedVote : removedVotes) {
+                voteTallyRepository.adjustVoteCount(teamBoardId, removedVote.getMenu().getMenuId(), -1);
+            }
         }
-
-        List<Vote> votes = voteRepository.findByTeamBoardTeamBoardId(teamBoardId);
-
-        if (votes.isEmpty()) {
-            throw new VoteNotFoundException("투표를 찾을 수 없습니다.");
+        reserveVotes(teamBoardId, userId, addedVotes.size());
+        insertVotes(addedVotes);
+        for (Vote addedVote : addedVotes) {
+            voteTallyRepository.adjustVoteCount(teamBoardId, addedVote.getMenu().getMenuId(), 1);
         }
 
-        Map<Long, Long> menuVoteCounts = votes.stream()
-                .collect(Collectors.groupingBy(vote -> vote.getMenu().getMenuId(), Collectors.counting()));
+        if (!removedVotes.isEmpty() || !addedVotes.isEmpty()) {
+            boardVersionService.teamBoardChanged(teamBoardId);
+            eventPublisher.publishEvent(new TeamBoardChangedEvent(teamBoardId, TeamBoardChangedEvent.Type.VOTE));
+        }
 
-        List<Map<String, Object>> voteList = menuVoteCounts.entrySet().stream()
-                .sorted(Map.Entry.<Long, Long>comparingByValue().reversed()
-                        .thenComparing(Map.Entry::getKey)) // 득표수에 따라 내림차순 정렬, 득표수가 같으면 menuId로 오름차순 정렬
-                .map(entry -> {
-                    Map<String, Object> map = new HashMap<>();
-                    map.put("menuId", entry.getKey());
-                    map.put("menuName", menuRepository.findById(entry.getKey()).orElseThrow().getMenuName());
-                    map.put("voteValue", entry.getValue());
-                    return map;
-                })
+        // 요청한 메뉴 순서대로 전체 투표 목록 반환
+        Map<Long, Vote> addedVotesByMenuId = addedVotes.stream()
+                .collect(Collectors.toMap(vote -> vote.getMenu().getMenuId(), vote -> vote));
+        return requestedMenuIds.stream()
+                .map(menuId -> keptVotes.containsKey(menuId) ? keptVotes.get(menuId) : addedVotesByMenuId.get(menuId))
+                .map(this::convertToDTO)
                 .collect(Collectors.toList());
+    }
 
+    @Transactional(readOnly = true)
+    public Map<String, Object> getVoteResults(Long teamBoardId, String providerId) {
+        // 팀 메뉴판의 투표 결과는 동시 조회끼리 공유하고 잠시 캐시 (사용자별 투표 여부만 요청마다 확인)
+        VoteResultCache.Snapshot snapshot = voteResultCache.get(teamBoardId, this::loadVoteResults);
 
-        boolean isVote = votes.stream()
-                .anyMatch(vote -> vote.getUser().equals(user));
+        Long userId = currentUserService.getUserId(providerId);
 
         Map<String, Object> result = new HashMap<>();
-        result.put("teamName", teamBoard.getTeamName());
-        result.put("votes", voteList);
-        result.put("voteDate", votes.get(0).getCreatedDate().format(DateTimeFormatter.ofPattern("yyyy-MM-dd")));
-        result.put("isVote", isVote);
+        result.put("teamName", snapshot.teamName());
+        result.put("votes", snapshot.votes());
+        result.put("voteDate", snapshot.voteDate());
+        result.put("isVote", snapshot.hasVoted(userId));
 
         return result;
     }
@@ -159,6 +198,66 @@ public class VoteService {
         Vote vote = voteRepository.findById(voteId)
                 .orElseThrow(() -> new VoteNotFoundException("투표를 찾을 수 없습니다."));
         voteRepository.delete(vote);
+        voteTallyRepository.adjustVoteCount(vote.getTeamBoard().getTeamBoardId(), vote.getMenu().getMenuId(), -1);
+        userVoteCountRepository.releaseVotes(vote.getTeamBoard().getTeamBoardId(), vote.getUser().getUserId(), 1);
+        boardVersionService.teamBoardChanged(vote.getTeamBoard().getTeamBoardId());
+        eventPublisher.publishEvent(new TeamBoardChangedEvent(vote.getTeamBoard().getTeamBoardId(), TeamBoardChangedEvent.Type.VOTE));
+    }
+
+    // 팀 메뉴판의 투표 결과 계산
+    private VoteResultCache.Snapshot loadVoteResults(Long teamBoardId) {
+        TeamBoard teamBoard = teamBoardRepository.findById(teamBoardId)
+                .orElseThrow(() -> new TeamBoardNotFoundException("팀 보드를 찾을 수 없습니다."));
+
+        // 메뉴별 투표 수 집계 테이블에서 정렬된 결과 조회 (메뉴 이름 포함)
+        List<VoteTallyDTO> tallies = voteTallyRepository.findTalliesByTeamBoardId(teamBoardId);
+        Vote firstVote = voteRepository.findFirstByTeamBoardTeamBoardIdOrderByVoteIdAsc(teamBoardId).orElse(null);
+
+        if (tallies.isEmpty() || firstVote == null) {
+            throw new VoteNotFoundException("투표를 찾을 수 없습니다.");
+        }
+
+        List<Map<String, Object>> voteList = tallies.stream()
+                .map(tally -> {
+                    Map<String, Object> map = new HashMap<>();
+                    map.put("menuId", tally.getMenuId());
+                    map.put("menuName", tally.getMenuName());
+                    map.put("voteValue", tally.getVoteCount());
+                    return map;
+                })
+                .collect(Collectors.toList());
+
+        return new VoteResultCache.Snapshot(
+                teamBoard.getTeamName(),
+                voteList,
+                firstVote.getCreatedDate().format(DateTimeFormatter.ofPattern("yyyy-MM-dd")),
+                new HashSet<>(voteRepository.findVoterIdsByTeamBoardId(teamBoardId))
+        );
+    }
+
+    // 사용자의 투표 수를 늘림 (늘린 뒤 최대 투표 수를 넘으면 실패)
+    private void reserveVotes(Long teamBoardId, Long userId, int count) {
+        if (!userVoteCountRepository.reserveVotes(teamBoardId, userId, count, MAX_VOTES_PER_USER)) {
+            throw new VoteLimitExceededException("한 사람당 최대 3개의 메뉴에만 투표할 수 있습니다.");
+        }
+    }
+
+    // 투표들을 한 번의 배치 INSERT로 저장 (같은 메뉴에 이미 투표했다면 유니크 제약 위반)
+    private void insertVotes(List<Vote> votes) {
+        try {
+            voteRepository.batchInsert(votes);
+        } catch (DuplicateKeyException e) {
+            throw new DuplicateVoteException("이미 이 메뉴에 투표하셨습니다.");
+        }
+    }
+
+    // 메뉴 ID -> 팀 보드에서 해당 메뉴의 teamBoardMenuId가 가장 낮은 항목의 ID
+    private Map<Long, Long> findLowestTeamBoardMenuIds(Long teamBoardId, Collection<Long> menuIds) {
+        if (menuIds.isEmpty()) {
+            return Map.of();
+        }
+        return teamBoardMenuRepository.findLowestTeamBoardMenuIdsByMenuIdIn(teamBoardId, menuIds).stream()
+                .collect(Collectors.toMap(row -> (Long) row[0], row -> (Long) row[1]));
     }
 
     private VoteDTO convertToDTO(Vote vote) {
@@ -1,5 +1,6 @@
 package org.example.shallweeatbackend.util;
 
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -16,38 +17,27 @@ import java.util.Date;
 @Component
 public class JWTUtil {
 
-    private SecretKey secretKey; // 비밀 키 객체
+    private final SecretKey secretKey; // 비밀 키 객체
+    private final JwtParser jwtParser; // 서명 검증용 파서 (스레드 안전하므로 한 번만 생성해 재사용)
 
-    // 비밀 키 초기화
+    // 비밀 키와 파서 초기화
     public JWTUtil(@Value("${spring.jwt.secret}") String secret) {
         this.secretKey = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), Jwts.SIG.HS256.key().build().getAlgorithm());
+        this.jwtParser = Jwts.parser().verifyWith(secretKey).build();
     }
 
-    // JWT에서 providerId 추출
-    public String getProviderId(String token) {
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().get("providerId", String.class);
+    // JWT 서명과 만료 시각을 한 번에 검증하고 클레임 반환
+    // (만료된 토큰은 ExpiredJwtException, 그 외 유효하지 않은 토큰은 JwtException)
+    public JwtClaims parse(String token) {
+        return JwtClaims.from(jwtParser.parseSignedClaims(token).getPayload());
     }
 
-    // JWT에서 role 추출
-    public String getRole(String token) {
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().get("role", String.class);
-    }
-
-    // JWT에서 category 추출 (ex: access, refresh)
-    public String getCategory(String token) {
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().get("category", String.class);
-    }
-
-    // JWT 만료 여부 확인
-    public Boolean isExpired(String token) {
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().getExpiration().before(new Date());
-    }
-
-    // 새로운 JWT 생성
-    public String createJwt(String category, String providerId, String role, Long expiredMs) {
+    // 새로운 JWT 생성 (userId: 사용자 테이블의 ID, 서비스에서 providerId로 사용자를 조회하지 않도록 함께 발급)
+    public String createJwt(String category, String providerId, Long userId, String role, Long expiredMs) {
         return Jwts.builder()
                 .claim("category", category)
                 .claim("providerId", providerId)
+                .claim("userId", userId)
                 .claim("role", role)
                 .issuedAt(new Date(System.currentTimeMillis()))
                 .expiration(new Date(System.currentTimeMillis() + expiredMs))
@@ -0,0 +1,35 @@
+package org.example.shallweeatbackend.util;
+
+import io.jsonwebtoken.Claims;
+
+import java.time.Instant;
+
+/**
+ * 서명 검증을 마친 JWT의 클레임을 담는 불변 객체입니다.
+ * 토큰을 한 번만 파싱/검증하고, 필요한 값은 이 객체에서 꺼내 씁니다.
+ */
+public record JwtClaims(String category, String providerId, Long userId, String role, Instant expiration) {
+
+    public static final String ACCESS = "access";
+    public static final String REFRESH = "refresh";
+
+    static JwtClaims from(Claims claims) {
+        return new JwtClaims(
+                claims.get("category", String.class),
+                claims.get("providerId", String.class),
+                claims.get("userId", Long.class), // userId 클레임 도입 전에 발급된 토큰은 null
+                claims.get("role", String.class),
+                claims.getExpiration().toInstant()
+        );
+    }
+
+    // access 토큰인지 확인
+    public boolean isAccess() {
+        return ACCESS.equals(category);
+    }
+
+    // refresh 토큰인지 확인
+    public boolean isRefresh() {
+        return REFRESH.equals(category);
+    }
+}
@@ -0,0 +1,107 @@
+package org.example.shallweeatbackend.util;
+
+import org.example.shallweeatbackend.dto.CatalogMenuDTO;
+import org.example.shallweeatbackend.dto.RecommendOptionsDTO;
+
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * MenuBitsetIndex 클래스는 메뉴 추천 필터링을 위한 비트셋 인덱스입니다.
+ * 옵션 값(맛, 탄수화물, 날씨, 카테고리)마다 해당 값을 가진 메뉴 위치의 비트셋을 하나씩 두어,
+ * 추천 필터링을 문자열 분리 없이 비트 연산(옵션 내 OR, 옵션 간 AND)만으로 처리합니다.
+ * 비트의 위치는 인덱스를 만들 때 전달한 메뉴 목록의 순서와 같습니다.
+ */
+public class MenuBitsetIndex {
+
+    public static final String ALL = "ALL";
+
+    private final int size;
+    private final Map<String, BitSet> tasteIndex;
+    private final Map<String, BitSet> carbIndex;
+    private final Map<String, BitSet> weatherIndex;
+    private final Map<String, BitSet> categoryIndex;
+    private final List<Map<String, BitSet>> indexes; // 맛, 탄수화물, 날씨, 카테고리 순서
+
+    // 메뉴 목록으로 옵션 값별 비트셋 생성
+    public MenuBitsetIndex(List<CatalogMenuDTO> menus) {
+        this.size = menus.size();
+        this.tasteIndex = buildIndex(menus, CatalogMenuDTO::getTasteOptions);
+        this.carbIndex = buildIndex(menus, CatalogMenuDTO::getCarbOptions);
+        this.weatherIndex = buildIndex(menus, CatalogMenuDTO::getWeatherOptions);
+        this.categoryIndex = buildIndex(menus, CatalogMenuDTO::getCategoryOptions);
+        this.indexes = List.of(tasteIndex, carbIndex, weatherIndex, categoryIndex);
+    }
+
+    // 추천 옵션에 맞는 메뉴 위치의 비트셋 반환 (반환된 비트셋은 호출자가 자유롭게 수정 가능)
+    public BitSet filter(RecommendOptionsDTO options) {
+        BitSet result = matchAll();
+        result.and(match(tasteIndex, options.getTasteOptions()));
+        result.and(match(carbIndex, options.getCarbOptions()));
+        result.and(match(weatherIndex, options.getWeatherOptions()));
+        result.and(match(categoryIndex, options.getCategoryOptions()));
+        return result;
+    }
+
+    // 모든 메뉴 위치가 설정된 비트셋
+    public BitSet matchAll() {
+        BitSet all = new BitSet(size);
+        all.set(0, size);
+        return all;
+    }
+
+    // 옵션(0: 맛, 1: 탄수화물, 2: 날씨, 3: 카테고리)의 특정 값을 가진 메뉴 위치의 비트셋 (복사본)
+    public BitSet matchValue(int dimension, String value) {
+        BitSet bits = indexes.get(dimension).get(value);
+        return bits == null ? new BitSet(size) : (BitSet) bits.clone();
+    }
+
+    // 옵션별로 카탈로그에 등장하는 값 목록 (정렬됨, 맛, 탄수화물, 날씨, 카테고리 순서)
+    public List<List<String>> getVocabularies() {
+        return indexes.stream()
+                .map(index -> index.keySet().stream().sorted().toList())
+                .toList();
+    }
+
+    // 인덱스에 포함된 메뉴 수
+    public int size() {
+        return size;
+    }
+
+    // 하나의 옵션에 대해 선택된 값 중 하나라도 가진 메뉴들의 비트셋 (ALL이면 전체)
+    private BitSet match(Map<String, BitSet> index, List<String> selected) {
+        BitSet matched = new BitSet(size);
+        if (selected == null) {
+            return matched;
+        }
+        if (selected.contains(ALL)) {
+            matched.set(0, size);
+            return matched;
+        }
+        for (String value : selected) {
+            BitSet bits = index.get(value);
+            if (bits != null) {
+                matched.or(bits);
+            }
+        }
+        return matched;
+    }
+
+    private static Map<String, BitSet> buildIndex(List<CatalogMenuDTO> menus, Function<CatalogMenuDTO, String> optionGetter) {
+        Map<String, BitSet> index = new HashMap<>();
+        for (int position = 0; position < menus.size(); position++) {
+            String commaSeparated = optionGetter.apply(menus.get(position));
+            if (commaSeparated == null) {
+                continue;
+            }
+            for (String value : commaSeparated.split(",")) {
+                index.computeIfAbsent(value, key -> new BitSet(menus.size())).set(position);
+            }
+        }
+        return Collections.unmodifiableMap(index);
+    }
+}
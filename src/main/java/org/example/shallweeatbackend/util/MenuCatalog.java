@@ -0,0 +1,103 @@
+package org.example.shallweeatbackend.util;
+
+import lombok.Getter;
+import org.example.shallweeatbackend.dto.CatalogMenuDTO;
+import org.example.shallweeatbackend.dto.CategoryMenuDTO;
+import org.example.shallweeatbackend.dto.RecommendOptionsDTO;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * MenuCatalog 클래스는 특정 시점의 전체 메뉴(태그 포함)를 담은 불변 스냅샷입니다.
+ * 메뉴 목록, 메뉴 ID별 조회용 맵, 추천 필터링용 비트셋 인덱스를 함께 보관하며,
+ * 메뉴가 바뀌면 새 스냅샷을 만들어 통째로 교체하므로 읽는 쪽은 잠금 없이 사용할 수 있습니다.
+ */
+@Getter
+public class MenuCatalog {
+
+    // 카테고리 순서
+    public static final List<String> CATEGORY_ORDER = List.of("한식", "중식", "일식", "양식", "인도/베트남/태국", "멕시코", "육류/해산물");
+
+    private final long version; // 카탈로그 버전 (재적재할 때마다 1씩 증가)
+    private final LocalDateTime loadedAt; // 적재 시각
+    private final List<CatalogMenuDTO> menus;
+    private final Map<Long, CatalogMenuDTO> menusById;
+    private final MenuBitsetIndex index;
+    private final RecommendationTable recommendationTable; // 옵션 조합이 너무 많으면 null
+
+    public MenuCatalog(long version, List<CatalogMenuDTO> menus) {
+        this.version = version;
+        this.loadedAt = LocalDateTime.now();
+        this.menus = List.copyOf(menus);
+
+        Map<Long, CatalogMenuDTO> byId = new HashMap<>();
+        for (CatalogMenuDTO menu : this.menus) {
+            byId.put(menu.getMenuId(), menu);
+        }
+        this.menusById = Collections.unmodifiableMap(byId);
+        this.index = new MenuBitsetIndex(this.menus);
+        this.recommendationTable = RecommendationTable.build(this.menus, this.index);
+    }
+
+    // 메뉴 목록을 정해진 카테고리 순서에 따라 그룹화 (메뉴가 있는 카테고리만 포함)
+    public static List<CategoryMenuDTO> groupByCategory(List<CatalogMenuDTO> menus) {
+        Map<String, List<CategoryMenuDTO.MenuDTO>> categorizedMenus = menus.stream()
+                .collect(Collectors.groupingBy(
+                        CatalogMenuDTO::getCategoryOptions,
+                        Collectors.mapping(menu -> {
+                            CategoryMenuDTO.MenuDTO menuDTO = new CategoryMenuDTO.MenuDTO();
+                            menuDTO.setMenuId(menu.getMenuId());
+                            menuDTO.setImageUrl(menu.getImageUrl());
+                            menuDTO.setMenuName(menu.getMenuName());
+                            menuDTO.setTags(menu.getTags());
+                            return menuDTO;
+                        }, Collectors.toList())
+                ));
+
+        return CATEGORY_ORDER.stream()
+                .filter(categorizedMenus::containsKey)
+                .map(category -> {
+                    CategoryMenuDTO categoryMenuDTO = new CategoryMenuDTO();
+                    categoryMenuDTO.setCategory(category);
+                    categoryMenuDTO.setMenu(categorizedMenus.get(category));
+                    return categoryMenuDTO;
+                }).collect(Collectors.toList());
+    }
+
+    // 메뉴 ID로 메뉴 조회 (없으면 null)
+    public CatalogMenuDTO getMenu(Long menuId) {
+        return menusById.get(menuId);
+    }
+
+    // 추천 옵션에 맞는 추천 결과 조회 (미리 계산된 테이블에 없는 조합이면 비트셋 인덱스로 계산)
+    public RecommendationTable.Entry recommend(RecommendOptionsDTO options) {
+        RecommendationTable.Entry entry = lookupPrecomputed(options);
+        if (entry != null) {
+            return entry;
+        }
+        List<CatalogMenuDTO> matchedMenus = findRecommendedMenus(options);
+        return new RecommendationTable.Entry(matchedMenus, groupByCategory(matchedMenus));
+    }
+
+    // 미리 계산된 테이블에서 추천 결과 조회 (테이블에 없는 조합이면 null)
+    public RecommendationTable.Entry lookupPrecomputed(RecommendOptionsDTO options) {
+        return recommendationTable == null ? null : recommendationTable.lookup(options);
+    }
+
+    // 추천 옵션에 맞는 메뉴 목록 조회 (카탈로그 순서 유지)
+    public List<CatalogMenuDTO> findRecommendedMenus(RecommendOptionsDTO options) {
+        BitSet matched = index.filter(options);
+        List<CatalogMenuDTO> result = new ArrayList<>(matched.cardinality());
+        for (int i = matched.nextSetBit(0); i >= 0; i = matched.nextSetBit(i + 1)) {
+            result.add(menus.get(i));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,173 @@
+package org.example.shallweeatbackend.util;
+
+import lombok.Getter;
+import org.example.shallweeatbackend.dto.CatalogMenuDTO;
+import org.example.shallweeatbackend.dto.CategoryMenuDTO;
+import org.example.shallweeatbackend.dto.RecommendOptionsDTO;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * RecommendationTable 클래스는 옵션 조합별 추천 결과를 미리 계산해 둔 테이블입니다.
+ * 각 옵션(맛, 탄수화물, 날씨, 카테고리)에서 "ALL" 또는 값 하나를 고르는 모든 조합에 대해
+ * 추천 메뉴 목록과 카테고리별 그룹화 결과를 조합 코드로 접근하는 배열에 보관하므로 조회는 O(1)입니다.
+ * 한 옵션에서 값을 여러 개 고른 조합은 테이블에 없으므로 호출자가 비트셋 인덱스로 계산해야 합니다.
+ */
+public class RecommendationTable {
+
+    // 미리 계산할 최대 조합 수 (옵션 값 종류가 많아 이보다 커지면 테이블을 만들지 않음)
+    public static final int MAX_COMBINATIONS = 20_000;
+
+    private static final int DIMENSIONS = 4;
+    private static final Entry EMPTY = new Entry(List.of(), List.of());
+
+    private final List<Map<String, Integer>> valueSlots; // 옵션별 값 -> 슬롯 번호 (0번 슬롯은 ALL)
+    private final int[] radix; // 옵션별 슬롯 수 (값 종류 + 1)
+    private final Entry[] entries; // 조합 코드 -> 추천 결과
+
+    private RecommendationTable(List<Map<String, Integer>> valueSlots, int[] radix, Entry[] entries) {
+        this.valueSlots = valueSlots;
+        this.radix = radix;
+        this.entries = entries;
+    }
+
+    // 카탈로그 메뉴와 비트셋 인덱스로 모든 조합의 추천 결과 계산 (조합 수가 너무 많으면 null)
+    public static RecommendationTable build(List<CatalogMenuDTO> menus, MenuBitsetIndex index) {
+        List<List<String>> vocabularies = index.getVocabularies();
+
+        int[] radix = new int[DIMENSIONS];
+        long combinations = 1;
+        for (int d = 0; d < DIMENSIONS; d++) {
+            radix[d] = vocabularies.get(d).size() + 1;
+            combinations *= radix[d];
+        }
+        if (combinations > MAX_COMBINATIONS) {
+            return null;
+        }
+
+        List<Map<String, Integer>> valueSlots = new ArrayList<>(DIMENSIONS);
+        for (List<String> vocabulary : vocabularies) {
+            Map<String, Integer> slots = new HashMap<>();
+            for (int i = 0; i < vocabulary.size(); i++) {
+                slots.put(vocabulary.get(i), i + 1);
+            }
+            valueSlots.add(slots);
+        }
+
+        // 메뉴별 MenuDTO는 한 번만 만들어 모든 조합에서 공유
+        List<CategoryMenuDTO.MenuDTO> menuDTOs = new ArrayList<>(menus.size());
+        for (CatalogMenuDTO menu : menus) {
+            CategoryMenuDTO.MenuDTO menuDTO = new CategoryMenuDTO.MenuDTO();
+            menuDTO.setMenuId(menu.getMenuId());
+            menuDTO.setImageUrl(menu.getImageUrl());
+            menuDTO.setMenuName(menu.getMenuName());
+            menuDTO.setTags(menu.getTags());
+            menuDTOs.add(menuDTO);
+        }
+
+        Entry[] entries = new Entry[(int) combinations];
+        int[] slots = new int[DIMENSIONS];
+        for (int code = 0; code < entries.length; code++) {
+            int remainder = code;
+            for (int d = DIMENSIONS - 1; d >= 0; d--) {
+                slots[d] = remainder % radix[d];
+                remainder /= radix[d];
+            }
+
+            BitSet matched = index.matchAll();
+            for (int d = 0; d < DIMENSIONS; d++) {
+                if (slots[d] != 0) {
+                    matched.and(index.matchValue(d, vocabularies.get(d).get(slots[d] - 1)));
+                }
+            }
+            entries[code] = toEntry(matched, menus, menuDTOs);
+        }
+
+        return new RecommendationTable(valueSlots, radix, entries);
+    }
+
+    // 추천 옵션에 해당하는 미리 계산된 결과 조회 (한 옵션에 값이 여러 개라 테이블로 답할 수 없으면 null)
+    public Entry lookup(RecommendOptionsDTO options) {
+        List<List<String>> selections = List.of(
+                nullToEmpty(options.getTasteOptions()),
+                nullToEmpty(options.getCarbOptions()),
+                nullToEmpty(options.getWeatherOptions()),
+                nullToEmpty(options.getCategoryOptions()));
+
+        int code = 0;
+        boolean matchesNothing = false;
+        for (int d = 0; d < DIMENSIONS; d++) {
+            List<String> selected = selections.get(d);
+            int slot;
+            if (selected.contains(MenuBitsetIndex.ALL)) {
+                slot = 0;
+            } else if (selected.isEmpty()) {
+                matchesNothing = true;
+                slot = 0;
+            } else if (selected.stream().distinct().count() > 1) {
+                return null;
+            } else {
+                Integer valueSlot = valueSlots.get(d).get(selected.get(0));
+                if (valueSlot == null) {
+                    matchesNothing = true; // 카탈로그에 없는 값
+                    slot = 0;
+                } else {
+                    slot = valueSlot;
+                }
+            }
+            code = code * radix[d] + slot;
+        }
+        return matchesNothing ? EMPTY : entries[code];
+    }
+
+    // 미리 계산된 조합 수
+    public int size() {
+        return entries.length;
+    }
+
+    private static Entry toEntry(BitSet matched, List<CatalogMenuDTO> menus, List<CategoryMenuDTO.MenuDTO> menuDTOs) {
+        List<CatalogMenuDTO> matchedMenus = new ArrayList<>(matched.cardinality());
+        Map<String, List<CategoryMenuDTO.MenuDTO>> categorizedMenus = new LinkedHashMap<>();
+        for (int i = matched.nextSetBit(0); i >= 0; i = matched.nextSetBit(i + 1)) {
+            CatalogMenuDTO menu = menus.get(i);
+            matchedMenus.add(menu);
+            categorizedMenus.computeIfAbsent(menu.getCategoryOptions(), key -> new ArrayList<>()).add(menuDTOs.get(i));
+        }
+
+        List<CategoryMenuDTO> grouped = new ArrayList<>();
+        for (String category : MenuCatalog.CATEGORY_ORDER) {
+            List<CategoryMenuDTO.MenuDTO> categoryMenus = categorizedMenus.get(category);
+            if (categoryMenus != null) {
+                CategoryMenuDTO categoryMenuDTO = new CategoryMenuDTO();
+                categoryMenuDTO.setCategory(category);
+                categoryMenuDTO.setMenu(List.copyOf(categoryMenus));
+                grouped.add(categoryMenuDTO);
+            }
+        }
+        return new Entry(List.copyOf(matchedMenus), List.copyOf(grouped));
+    }
+
+    private static List<String> nullToEmpty(List<String> values) {
+        return values == null ? List.of() : values;
+    }
+
+    /**
+     * 하나의 옵션 조합에 대한 추천 결과 (추천 메뉴 목록과 카테고리별 그룹화 결과)
+     */
+    @Getter
+    public static class Entry {
+
+        private final List<CatalogMenuDTO> menus;
+        private final List<CategoryMenuDTO> categories;
+
+        public Entry(List<CatalogMenuDTO> menus, List<CategoryMenuDTO> categories) {
+            this.menus = menus;
+            this.categories = categories;
+        }
+    }
+}
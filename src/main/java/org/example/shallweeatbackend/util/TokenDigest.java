@@ -0,0 +1,26 @@
+package org.example.shallweeatbackend.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 토큰 원문 대신 저장하거나 키로 사용할 고정 길이 다이제스트(SHA-256, 16진수 64자)를 만드는 유틸리티입니다.
+ */
+public final class TokenDigest {
+
+    public static final int LENGTH = 64; // 다이제스트 길이 (16진수 문자 수, refresh_token.token_hash 컬럼 길이)
+
+    private TokenDigest() {
+    }
+
+    public static String sha256Hex(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha256.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package org.example.shallweeatbackend.benchmark;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.example.shallweeatbackend.util.JWTUtil;
+import org.example.shallweeatbackend.util.JwtClaims;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWTFilter가 요청마다 access 토큰을 검증하는 비용 비교 벤치마크입니다.
+ * - perClaimParse: 기존 방식 (isExpired, getCategory, getProviderId, getRole이 각각 파서를 새로 만들어 서명 검증, 총 4회)
+ * - singleParse: 한 번 만든 파서로 한 번만 서명 검증 후 클레임 객체 사용
+ *
+ * 실행: ./gradlew benchmark --args='JwtVerificationBenchmark'
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtVerificationBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-for-hs256-signature-0123456789";
+
+    private SecretKey secretKey;
+    private JWTUtil jwtUtil;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        secretKey = new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), Jwts.SIG.HS256.key().build().getAlgorithm());
+        jwtUtil = new JWTUtil(SECRET);
+        accessToken = jwtUtil.createJwt("access", "kakao_1234567890", 1L, "ROLE_USER", 1800000L);
+    }
+
+    @Benchmark
+    public void perClaimParse(Blackhole blackhole) {
+        blackhole.consume(parseClaims(accessToken).getExpiration().before(new Date()));
+        blackhole.consume(parseClaims(accessToken).get("category", String.class));
+        blackhole.consume(parseClaims(accessToken).get("providerId", String.class));
+        blackhole.consume(parseClaims(accessToken).get("role", String.class));
+    }
+
+    @Benchmark
+    public void singleParse(Blackhole blackhole) {
+        JwtClaims claims = jwtUtil.parse(accessToken);
+        blackhole.consume(claims.isAccess());
+        blackhole.consume(claims.providerId());
+        blackhole.consume(claims.role());
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtVerificationBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+
+    // 기존 JWTUtil의 클레임 조회 방식 (호출마다 파서 생성 후 서명 검증)
+    private Claims parseClaims(String token) {
+        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload();
+    }
+}
@@ -0,0 +1,171 @@
+package org.example.shallweeatbackend.benchmark;
+
+import org.example.shallweeatbackend.dto.CatalogMenuDTO;
+import org.example.shallweeatbackend.dto.CategoryMenuDTO;
+import org.example.shallweeatbackend.dto.RecommendOptionsDTO;
+import org.example.shallweeatbackend.entity.Menu;
+import org.example.shallweeatbackend.entity.MenuTag;
+import org.example.shallweeatbackend.entity.Tag;
+import org.example.shallweeatbackend.util.MenuCatalog;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 메뉴 추천 필터링 방식별 성능 비교 벤치마크입니다.
+ * - streamPipeline: 기존 방식 (메뉴마다 옵션 문자열 분리 후 containsAny 비교, 카테고리별 그룹화)
+ * - bitsetIndex: 비트셋 인덱스로 필터링 후 카테고리별 그룹화
+ * - precomputedTable: 미리 계산된 옵션 조합 테이블 조회
+ *
+ * 실행: ./gradlew benchmark --args='RecommendationBenchmark'
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RecommendationBenchmark {
+
+    private static final List<String> TASTES = List.of("매콤한", "달콤한", "짭짤한", "담백한", "새콤한");
+    private static final List<String> CARBS = List.of("밥", "면", "빵", "기타");
+    private static final List<String> WEATHERS = List.of("맑음", "비", "눈", "더움", "추움");
+
+    @Param({"100", "1000"})
+    public int menuCount;
+
+    private List<Menu> menus;
+    private MenuCatalog catalog;
+    private List<RecommendOptionsDTO> requests;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        menus = new ArrayList<>(menuCount);
+        for (long id = 1; id <= menuCount; id++) {
+            Menu menu = new Menu();
+            menu.setMenuId(id);
+            menu.setMenuName("메뉴" + id);
+            menu.setImageUrl("https://example.com/" + id + ".webp");
+            menu.setTasteOptions(pick(random, TASTES, 2));
+            menu.setCarbOptions(pick(random, CARBS, 1));
+            menu.setWeatherOptions(pick(random, WEATHERS, 2));
+            menu.setCategoryOptions(MenuCatalog.CATEGORY_ORDER.get(random.nextInt(MenuCatalog.CATEGORY_ORDER.size())));
+            menu.setMenuTags(createTags(menu, random));
+            menus.add(menu);
+        }
+
+        catalog = new MenuCatalog(1L, menus.stream().map(CatalogMenuDTO::new).toList());
+
+        // 옵션마다 ALL 또는 값 하나를 고른 요청 (화면에서 주로 들어오는 형태)
+        requests = new ArrayList<>();
+        for (int i = 0; i < 64; i++) {
+            RecommendOptionsDTO options = new RecommendOptionsDTO();
+            options.setTasteOptions(single(random, TASTES));
+            options.setCarbOptions(single(random, CARBS));
+            options.setWeatherOptions(single(random, WEATHERS));
+            options.setCategoryOptions(single(random, MenuCatalog.CATEGORY_ORDER));
+            requests.add(options);
+        }
+    }
+
+    @Benchmark
+    public List<CategoryMenuDTO> streamPipeline() {
+        RecommendOptionsDTO options = nextRequest();
+
+        List<Menu> recommendedMenus = menus.stream()
+                .filter(menu -> options.getTasteOptions().contains("ALL") || containsAny(convertToList(menu.getTasteOptions()), options.getTasteOptions()))
+                .filter(menu -> options.getCarbOptions().contains("ALL") || containsAny(convertToList(menu.getCarbOptions()), options.getCarbOptions()))
+                .filter(menu -> options.getWeatherOptions().contains("ALL") || containsAny(convertToList(menu.getWeatherOptions()), options.getWeatherOptions()))
+                .filter(menu -> options.getCategoryOptions().contains("ALL") || containsAny(convertToList(menu.getCategoryOptions()), options.getCategoryOptions()))
+                .collect(Collectors.toList());
+
+        Map<String, List<CategoryMenuDTO.MenuDTO>> categorizedMenus = recommendedMenus.stream()
+                .collect(Collectors.groupingBy(
+                        Menu::getCategoryOptions,
+                        Collectors.mapping(menu -> {
+                            CategoryMenuDTO.MenuDTO menuDTO = new CategoryMenuDTO.MenuDTO();
+                            menuDTO.setMenuId(menu.getMenuId());
+                            menuDTO.setImageUrl(menu.getImageUrl());
+                            menuDTO.setMenuName(menu.getMenuName());
+                            menuDTO.setTags(menu.getMenuTags().stream()
+                                    .map(menuTag -> menuTag.getTag().getName())
+                                    .collect(Collectors.toList()));
+                            return menuDTO;
+                        }, Collectors.toList())
+                ));
+
+        return MenuCatalog.CATEGORY_ORDER.stream()
+                .filter(categorizedMenus::containsKey)
+                .map(category -> {
+                    CategoryMenuDTO categoryMenuDTO = new CategoryMenuDTO();
+                    categoryMenuDTO.setCategory(category);
+                    categoryMenuDTO.setMenu(categorizedMenus.get(category));
+                    return categoryMenuDTO;
+                }).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<CategoryMenuDTO> bitsetIndex() {
+        return MenuCatalog.groupByCategory(catalog.findRecommendedMenus(nextRequest()));
+    }
+
+    @Benchmark
+    public List<CategoryMenuDTO> precomputedTable() {
+        return catalog.lookupPrecomputed(nextRequest()).getCategories();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(RecommendationBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+
+    private RecommendOptionsDTO nextRequest() {
+        cursor = (cursor + 1) & (requests.size() - 1);
+        return requests.get(cursor);
+    }
+
+    private static List<String> convertToList(String commaSeparatedString) {
+        return Arrays.asList(commaSeparatedString.split(","));
+    }
+
+    private static boolean containsAny(List<String> source, List<String> target) {
+        for (String item : target) {
+            if (source.contains(item)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String pick(Random random, List<String> values, int count) {
+        List<String> shuffled = new ArrayList<>(values);
+        Collections.shuffle(shuffled, random);
+        return String.join(",", shuffled.subList(0, count));
+    }
+
+    private static List<String> single(Random random, List<String> values) {
+        int choice = random.nextInt(values.size() + 1);
+        return choice == values.size() ? List.of("ALL") : List.of(values.get(choice));
+    }
+
+    private static List<MenuTag> createTags(Menu menu, Random random) {
+        List<MenuTag> menuTags = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Tag tag = new Tag();
+            tag.setName("태그" + random.nextInt(20));
+            MenuTag menuTag = new MenuTag();
+            menuTag.setMenu(menu);
+            menuTag.setTag(tag);
+            menuTags.add(menuTag);
+        }
+        return menuTags;
+    }
+}
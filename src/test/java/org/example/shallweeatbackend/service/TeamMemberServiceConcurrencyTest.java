@@ -0,0 +1,140 @@
+package org.example.shallweeatbackend.service;
+
+import org.example.shallweeatbackend.entity.TeamBoard;
+import org.example.shallweeatbackend.entity.User;
+import org.example.shallweeatbackend.repository.TeamBoardRepository;
+import org.example.shallweeatbackend.repository.TeamMemberRepository;
+import org.example.shallweeatbackend.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 여러 사용자가 동시에 같은 팀 메뉴판에 참여해도 정원을 넘지 않고,
+ * 같은 사용자가 동시에 여러 번 참여해도 한 번만 팀원이 되는지 확인합니다.
+ * (각 스레드가 자기 트랜잭션으로 커밋해야 하므로 테스트 메서드에는 트랜잭션을 걸지 않음)
+ * 기본 test 태스크는 꺼져 있으므로 ./gradlew concurrencyTest 로 실행합니다. (H2 MySQL 모드, application-test.yml)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class TeamMemberServiceConcurrencyTest {
+
+    private static final int TEAM_MEMBERS_NUM = 4; // 생성자 포함 정원 -> 팀원은 3명까지
+    private static final int THREADS = 16;
+
+    @Autowired private TeamMemberService teamMemberService;
+    @Autowired private TeamBoardRepository teamBoardRepository;
+    @Autowired private TeamMemberRepository teamMemberRepository;
+    @Autowired private UserRepository userRepository;
+
+    private final List<User> users = new ArrayList<>();
+    private TeamBoard teamBoard;
+
+    @BeforeEach
+    void setUp() {
+        User host = saveUser("concurrency_host");
+        TeamBoard board = new TeamBoard();
+        board.setUser(host);
+        board.setTeamName("동시성 테스트");
+        board.setTeamBoardName("동시성 테스트 메뉴판");
+        board.setTeamMembersNum(TEAM_MEMBERS_NUM);
+        teamBoard = teamBoardRepository.save(board);
+    }
+
+    @AfterEach
+    void tearDown() {
+        teamBoardRepository.deleteById(teamBoard.getTeamBoardId());
+        userRepository.deleteAll(users);
+        users.clear();
+    }
+
+    @Test
+    void concurrentJoinsNeverExceedCapacity() throws Exception {
+        List<String> providerIds = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            providerIds.add(saveUser("concurrency_member_" + i).getProviderId());
+        }
+
+        AtomicInteger joined = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        runConcurrently(providerIds, joined, rejected);
+
+        int maxMembers = TEAM_MEMBERS_NUM - 1;
+        assertThat(joined.get()).isEqualTo(maxMembers);
+        assertThat(rejected.get()).isEqualTo(THREADS - maxMembers);
+        assertThat(teamMemberRepository.countByTeamBoard(teamBoard)).isEqualTo(maxMembers);
+        assertThat(teamBoardRepository.findById(teamBoard.getTeamBoardId()).orElseThrow().getMemberCount()).isEqualTo(maxMembers);
+    }
+
+    @Test
+    void concurrentDuplicateJoinsAddMemberOnce() throws Exception {
+        String providerId = saveUser("concurrency_duplicate").getProviderId();
+        List<String> providerIds = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            providerIds.add(providerId);
+        }
+
+        AtomicInteger joined = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        runConcurrently(providerIds, joined, rejected);
+
+        assertThat(joined.get()).isEqualTo(1);
+        assertThat(rejected.get()).isEqualTo(THREADS - 1);
+        assertThat(teamMemberRepository.countByTeamBoard(teamBoard)).isEqualTo(1);
+        assertThat(teamBoardRepository.findById(teamBoard.getTeamBoardId()).orElseThrow().getMemberCount()).isEqualTo(1);
+    }
+
+    // 모든 스레드가 준비된 뒤 동시에 참여 요청
+    private void runConcurrently(List<String> providerIds, AtomicInteger joined, AtomicInteger rejected) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(providerIds.size());
+        CountDownLatch ready = new CountDownLatch(providerIds.size());
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (String providerId : providerIds) {
+                futures.add(executor.submit(() -> {
+                    ready.countDown();
+                    start.await();
+                    try {
+                        teamMemberService.addMember(providerId, teamBoard.getTeamBoardId());
+                        joined.incrementAndGet();
+                    } catch (IllegalStateException e) {
+                        rejected.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            ready.await();
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private User saveUser(String providerId) {
+        User user = new User();
+        user.setName(providerId);
+        user.setProviderId(providerId);
+        user.setRole("ROLE_USER");
+        User saved = userRepository.save(user);
+        users.add(saved);
+        return saved;
+    }
+}